@@ -2,14 +2,17 @@ package com.github.abagabagon.verifico;
 
 import java.io.File;
 import java.net.URL;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import com.github.abagabagon.verifico.api.RestAPI;
 import com.github.abagabagon.verifico.automation.mobile.AppiumMobileAutomation;
 import com.github.abagabagon.verifico.automation.mobile.MobileAutomation;
 import com.github.abagabagon.verifico.automation.web.WebAutomation;
 import com.github.abagabagon.verifico.automation.web.appium.AppiumWebAutomation;
+import com.github.abagabagon.verifico.automation.web.selenium.SeleniumSessionPool;
 import com.github.abagabagon.verifico.automation.web.selenium.SeleniumWebAutomation;
 import com.github.abagabagon.verifico.data.excel.ExcelData;
 import com.github.abagabagon.verifico.data.excel.XLSExcelData;
@@ -17,7 +20,9 @@ import com.github.abagabagon.verifico.data.excel.XLSXExcelData;
 import com.github.abagabagon.verifico.data.sql.SQLData;
 import com.github.abagabagon.verifico.enums.Browser;
 import com.github.abagabagon.verifico.enums.Excel;
+import com.github.abagabagon.verifico.enums.LaunchProfile;
 import com.github.abagabagon.verifico.enums.Mobile;
+import com.github.abagabagon.verifico.enums.PageLoadStrategy;
 import com.github.abagabagon.verifico.enums.SQL;
 import com.github.abagabagon.verifico.report.ExtentReport;
 import com.github.abagabagon.verifico.report.Reporter;
@@ -26,6 +31,18 @@ import com.github.abagabagon.verifico.testmanagement.TestRail;
 
 /**
  * Main class of the Verifico Test Automation Library
+ * <p>
+ * Thread Safety: a single Verifico instance can be shared by tests running in parallel (e. g. TestNG
+ * <code>parallel="methods"</code>). Every instance created through the facade is kept per thread, so each thread
+ * gets and works on its own instance, which can be retrieved again through the <code>getCurrent...</code> methods
+ * and should be released through <code>release()</code> once the test is done. Component guarantees:
+ * <ul>
+ * <li>WebAutomation, MobileAutomation, SQLData, ExcelData, TestManagement and RestAPI instances are not thread-safe
+ * and are confined to the thread that created them.</li>
+ * <li>The Reporter is created once and shared by all threads. The current Test is tracked per thread.</li>
+ * <li>Session Pools, prewarmed Browsers, shared Web Driver Services and the Web Driver binary cache are JVM-wide
+ * and thread-safe.</li>
+ * </ul>
  * 
  * @author albagabagon
  *
@@ -34,12 +51,13 @@ import com.github.abagabagon.verifico.testmanagement.TestRail;
 public class Verifico {
 	
 	private Logger log;
-	private WebAutomation webAutomation;
-	private MobileAutomation mobileAutomation;
-	private SQLData sqlData;
-	private ExcelData excelData;
-	private TestManagement testManagement;
-	private Reporter report;
+	private ThreadLocal<WebAutomation> webAutomation;
+	private ThreadLocal<MobileAutomation> mobileAutomation;
+	private ThreadLocal<SQLData> sqlData;
+	private ThreadLocal<ExcelData> excelData;
+	private ThreadLocal<TestManagement> testManagement;
+	private AtomicReference<Reporter> report;
+	private ThreadLocal<RestAPI> restAPI;
 	
 	/**
 	 * Verifico Test Automation Library
@@ -47,6 +65,13 @@ public class Verifico {
 	
 	public Verifico() {
 		this.log = LogManager.getLogger(this.getClass());
+		this.webAutomation = new ThreadLocal<WebAutomation>();
+		this.mobileAutomation = new ThreadLocal<MobileAutomation>();
+		this.sqlData = new ThreadLocal<SQLData>();
+		this.excelData = new ThreadLocal<ExcelData>();
+		this.testManagement = new ThreadLocal<TestManagement>();
+		this.report = new AtomicReference<Reporter>();
+		this.restAPI = new ThreadLocal<RestAPI>();
 	}
 	
 	/**
@@ -61,8 +86,114 @@ public class Verifico {
 	
 	public final WebAutomation getWebAutomation(Browser browser, boolean isHeadless) {
 		this.log.debug("Initializing WebAutomation instance.");
-		this.webAutomation = new SeleniumWebAutomation(browser, isHeadless);
-		return this.webAutomation;
+		this.webAutomation.set(new SeleniumWebAutomation(browser, isHeadless));
+		return this.webAutomation.get();
+	}
+	
+	/**
+	 * Get WebAutomation instance for Web-based Application Test Automation with a specific Browser Launch Profile
+	 * 
+	 * @param browser		Specific Web Browser to which tests will be executed.
+	 * @param isHeadless	If test execution for the browser is Headless.
+	 * 						<code>true</code> if browser is headless.
+	 * 						<code>false</code> if browser is not headless.
+	 * @param launchProfile	Browser Launch Profile. <code>FAST</code> is tuned for throughput on <code>CHROME</code> and <code>FIREFOX</code>: 
+	 * 						images blocked, background networking, extensions and updates disabled, reduced motion requested and a fixed 1280x800 window.
+	 * @return 				WebAutomation instance
+	 */
+	
+	public final WebAutomation getWebAutomation(Browser browser, boolean isHeadless, LaunchProfile launchProfile) {
+		this.log.debug("Initializing WebAutomation instance.");
+		this.webAutomation.set(new SeleniumWebAutomation(browser, isHeadless, launchProfile));
+		return this.webAutomation.get();
+	}
+	
+	/**
+	 * Get WebAutomation instance for Web-based Application Test Automation with a specific Browser Launch Profile and Page Load Strategy
+	 * 
+	 * @param browser			Specific Web Browser to which tests will be executed.
+	 * @param isHeadless		If test execution for the browser is Headless.
+	 * 							<code>true</code> if browser is headless.
+	 * 							<code>false</code> if browser is not headless.
+	 * @param launchProfile		Browser Launch Profile.
+	 * @param pageLoadStrategy	Page Load Strategy. <code>EAGER</code> and <code>NONE</code> return from navigation once the DOM is usable
+	 * 							instead of waiting for all images and third-party resources to load.
+	 * @return 					WebAutomation instance
+	 */
+	
+	public final WebAutomation getWebAutomation(Browser browser, boolean isHeadless, LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy) {
+		this.log.debug("Initializing WebAutomation instance.");
+		this.webAutomation.set(new SeleniumWebAutomation(browser, isHeadless, launchProfile, pageLoadStrategy));
+		return this.webAutomation.get();
+	}
+	
+	/**
+	 * Get WebAutomation instance for Web-based Application Test Automation that reuses Browser sessions from a Session Pool.
+	 * <code>closeBrowser()</code> returns the session to the pool instead of quitting the Browser.
+	 * 
+	 * @param sessionPool	Session Pool where Browser sessions will be checked out from.
+	 * @return 				WebAutomation instance
+	 */
+	
+	public final WebAutomation getWebAutomation(SeleniumSessionPool sessionPool) {
+		this.log.debug("Initializing pooled WebAutomation instance.");
+		this.webAutomation.set(new SeleniumWebAutomation(sessionPool));
+		return this.webAutomation.get();
+	}
+	
+	/**
+	 * Get Session Pool of reusable Browser sessions for Web-based Application Test Automation. The Session Pool should be
+	 * shared by tests and shut down once all tests are done.
+	 * 
+	 * @param browser			Specific Web Browser to which tests will be executed.
+	 * @param isHeadless		If test execution for the browser is Headless.
+	 * 							<code>true</code> if browser is headless.
+	 * 							<code>false</code> if browser is not headless.
+	 * @param maxSize			Maximum number of Browser sessions of the pool.
+	 * @param maxIdleSeconds	Number of seconds an idle Browser session is kept before it is closed.
+	 * @return					Session Pool instance
+	 */
+	
+	public final SeleniumSessionPool getSessionPool(Browser browser, boolean isHeadless, int maxSize, long maxIdleSeconds) {
+		this.log.debug("Initializing Session Pool instance.");
+		return new SeleniumSessionPool(browser, isHeadless, maxSize, maxIdleSeconds);
+	}
+	
+	/**
+	 * Get Session Pool of reusable Browser sessions launched with a specific Browser Launch Profile.
+	 * 
+	 * @param browser			Specific Web Browser to which tests will be executed.
+	 * @param isHeadless		If test execution for the browser is Headless.
+	 * 							<code>true</code> if browser is headless.
+	 * 							<code>false</code> if browser is not headless.
+	 * @param launchProfile		Browser Launch Profile of the pooled sessions.
+	 * @param maxSize			Maximum number of Browser sessions of the pool.
+	 * @param maxIdleSeconds	Number of seconds an idle Browser session is kept before it is closed.
+	 * @return					Session Pool instance
+	 */
+	
+	public final SeleniumSessionPool getSessionPool(Browser browser, boolean isHeadless, LaunchProfile launchProfile, int maxSize, long maxIdleSeconds) {
+		this.log.debug("Initializing Session Pool instance.");
+		return new SeleniumSessionPool(browser, isHeadless, launchProfile, maxSize, maxIdleSeconds);
+	}
+	
+	/**
+	 * Get Session Pool of reusable Browser sessions launched with a specific Browser Launch Profile and Page Load Strategy.
+	 * 
+	 * @param browser			Specific Web Browser to which tests will be executed.
+	 * @param isHeadless		If test execution for the browser is Headless.
+	 * 							<code>true</code> if browser is headless.
+	 * 							<code>false</code> if browser is not headless.
+	 * @param launchProfile		Browser Launch Profile of the pooled sessions.
+	 * @param pageLoadStrategy	Page Load Strategy of the pooled sessions.
+	 * @param maxSize			Maximum number of Browser sessions of the pool.
+	 * @param maxIdleSeconds	Number of seconds an idle Browser session is kept before it is closed.
+	 * @return					Session Pool instance
+	 */
+	
+	public final SeleniumSessionPool getSessionPool(Browser browser, boolean isHeadless, LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy, int maxSize, long maxIdleSeconds) {
+		this.log.debug("Initializing Session Pool instance.");
+		return new SeleniumSessionPool(browser, isHeadless, launchProfile, pageLoadStrategy, maxSize, maxIdleSeconds);
 	}
 	
 	/**
@@ -78,8 +209,8 @@ public class Verifico {
 	
 	public final WebAutomation getWebAutomation(String deviceName, Mobile mobile, String platformVersion, Browser browser, URL appiumServerUrl) {
 		this.log.debug("Initializing WebAutomation instance.");
-		this.webAutomation = new AppiumWebAutomation(deviceName, mobile, platformVersion, browser, appiumServerUrl);
-		return this.webAutomation;
+		this.webAutomation.set(new AppiumWebAutomation(deviceName, mobile, platformVersion, browser, appiumServerUrl));
+		return this.webAutomation.get();
 	}
 	
 	/**
@@ -95,8 +226,8 @@ public class Verifico {
 	
 	public final MobileAutomation getMobileAutomation(String deviceName, Mobile mobile, String platformVersion, File applicationFile, URL appiumServerUrl) {
 		this.log.debug("Initializing MobileAutomation instance.");
-		this.mobileAutomation = new AppiumMobileAutomation(deviceName, mobile, platformVersion, applicationFile, appiumServerUrl);
-		return this.mobileAutomation;
+		this.mobileAutomation.set(new AppiumMobileAutomation(deviceName, mobile, platformVersion, applicationFile, appiumServerUrl));
+		return this.mobileAutomation.get();
 	}
 	
 	/**
@@ -113,8 +244,8 @@ public class Verifico {
 	
 	public final MobileAutomation getMobileAutomation(String deviceName, Mobile mobile, String platformVersion, URL applicationUrl, File applicationFile, URL appiumServerUrl) {
 		this.log.debug("Initializing MobileAutomation instance.");
-		this.mobileAutomation = new AppiumMobileAutomation(deviceName, mobile, platformVersion, applicationUrl, applicationFile, appiumServerUrl);
-		return this.mobileAutomation;
+		this.mobileAutomation.set(new AppiumMobileAutomation(deviceName, mobile, platformVersion, applicationUrl, applicationFile, appiumServerUrl));
+		return this.mobileAutomation.get();
 	}
 	
 	/**
@@ -131,8 +262,8 @@ public class Verifico {
 	
 	public final SQLData getSQLData(SQL sqlType, String dbServer, String dbName, String user, String password, boolean isSSLUsed) {
 		this.log.debug("Initializing SQLData instance.");
-		this.sqlData = new SQLData(sqlType, dbServer, dbName, user, password, isSSLUsed);
-		return this.sqlData;
+		this.sqlData.set(new SQLData(sqlType, dbServer, dbName, user, password, isSSLUsed));
+		return this.sqlData.get();
 	}
 	
 	/**
@@ -147,14 +278,14 @@ public class Verifico {
 		this.log.debug("Initializing ExcelData instance.");
 		switch(excelType) {
 		case XLS:
-			this.excelData = new XLSExcelData(filePath);
+			this.excelData.set(new XLSExcelData(filePath));
 			break;
 		case XLSX:
-			this.excelData = new XLSXExcelData(filePath);
+			this.excelData.set(new XLSXExcelData(filePath));
 			break;
 		}
 		
-		return this.excelData;
+		return this.excelData.get();
 	}
 	
 	/**
@@ -169,20 +300,127 @@ public class Verifico {
 	
 	public final TestManagement getTestManagement(String testRailServer, String testRailUser, String testRailPassword, int testRunId) {
 		this.log.debug("Initializing Test Management Tool instance.");
-		this.testManagement = new TestRail(testRailServer, testRailUser, testRailPassword, testRunId);
-		return this.testManagement;
+		this.testManagement.set(new TestRail(testRailServer, testRailUser, testRailPassword, testRunId));
+		return this.testManagement.get();
 	}
 	
 	/**
-	 * Get Reporter instance for Test Automation
+	 * Get Reporter instance for Test Automation. The Reporter is created on the first call and shared by all threads.
 	 * 
 	 * @return Reporter Instance
 	 */
 	
 	public final Reporter getReporter() {
-		this.log.debug("Initializing Reporter instance.");
-		this.report = new ExtentReport();
-		return this.report;
+		Reporter reporter = this.report.get();
+		if (reporter == null) {
+			synchronized (this.report) {
+				reporter = this.report.get();
+				if (reporter == null) {
+					this.log.debug("Initializing Reporter instance.");
+					reporter = new ExtentReport();
+					this.report.set(reporter);
+				}
+			}
+		}
+		return reporter;
+	}
+	
+	/**
+	 * Get RestAPI instance for API Test Automation
+	 * 
+	 * @param baseURI	Base URI of API Requests
+	 * @return			RestAPI Instance
+	 */
+	
+	public final RestAPI getRestAPI(String baseURI) {
+		this.log.debug("Initializing RestAPI instance.");
+		this.restAPI.set(new RestAPI(baseURI));
+		return this.restAPI.get();
+	}
+	
+	/**
+	 * Get WebAutomation instance last created by the current thread
+	 * 
+	 * @return WebAutomation instance, <code>null</code> if none was created by the current thread.
+	 */
+	
+	public final WebAutomation getCurrentWebAutomation() {
+		return this.webAutomation.get();
+	}
+	
+	/**
+	 * Get MobileAutomation instance last created by the current thread
+	 * 
+	 * @return MobileAutomation instance, <code>null</code> if none was created by the current thread.
+	 */
+	
+	public final MobileAutomation getCurrentMobileAutomation() {
+		return this.mobileAutomation.get();
+	}
+	
+	/**
+	 * Get SQLData instance last created by the current thread
+	 * 
+	 * @return SQLData instance, <code>null</code> if none was created by the current thread.
+	 */
+	
+	public final SQLData getCurrentSQLData() {
+		return this.sqlData.get();
+	}
+	
+	/**
+	 * Get ExcelData instance last created by the current thread
+	 * 
+	 * @return ExcelData instance, <code>null</code> if none was created by the current thread.
+	 */
+	
+	public final ExcelData getCurrentExcelData() {
+		return this.excelData.get();
+	}
+	
+	/**
+	 * Get Test Management Tool instance last created by the current thread
+	 * 
+	 * @return TestManagement instance, <code>null</code> if none was created by the current thread.
+	 */
+	
+	public final TestManagement getCurrentTestManagement() {
+		return this.testManagement.get();
+	}
+	
+	/**
+	 * Get Reporter instance shared by all threads
+	 * 
+	 * @return Reporter instance, <code>null</code> if none was created yet.
+	 */
+	
+	public final Reporter getCurrentReporter() {
+		return this.report.get();
+	}
+	
+	/**
+	 * Get RestAPI instance last created by the current thread
+	 * 
+	 * @return RestAPI instance, <code>null</code> if none was created by the current thread.
+	 */
+	
+	public final RestAPI getCurrentRestAPI() {
+		return this.restAPI.get();
+	}
+	
+	/**
+	 * Releases all instances created by the current thread. Instances are not closed, so Browsers, Applications and
+	 * Connections should be closed before releasing. The shared Reporter is kept.
+	 */
+	
+	public final void release() {
+		this.log.debug("Releasing Verifico instances of the current thread.");
+		this.webAutomation.remove();
+		this.mobileAutomation.remove();
+		this.sqlData.remove();
+		this.excelData.remove();
+		this.testManagement.remove();
+		this.restAPI.remove();
 	}
 
 }
@@ -9,27 +9,59 @@ import org.apache.logging.log4j.Logger;
 
 import com.github.abagabagon.verifico.enums.HTTPMethod;
 
-import io.restassured.RestAssured;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
+/**
+ * REST API Requests
+ * <p>
+ * Thread Safety: the Base URI is kept per instance instead of in the static <code>RestAssured.baseURI</code>,
+ * so instances used by parallel tests do not affect each other. A single instance should not be shared by threads
+ * that set different Base URIs.
+ * 
+ * @author albagabagon
+ *
+ */
+
 public class RestAPI {
 	
 	private Logger log;
+	private volatile String baseURI;
 	
 	public RestAPI() {
 		this.log = LogManager.getLogger(RestAPI.class);
 	}
 	
+	public RestAPI(String baseURI) {
+		this.log = LogManager.getLogger(RestAPI.class);
+		this.setBaseURI(baseURI);
+	}
+	
+	/**
+	 * Sets the Base URI of succeeding API Requests of this instance.
+	 * 
+	 * @param baseURI Base URI of API Requests
+	 */
+	
 	public final void setBaseURI(String baseURI) {
 		if (baseURI == null) {
 			log.fatal("Base URI is NULL.");
 		} else {
-			RestAssured.baseURI = baseURI;
+			this.baseURI = baseURI;
 		}
 	}
 	
+	/**
+	 * Gets the Base URI of API Requests of this instance.
+	 * 
+	 * @return Base URI of API Requests
+	 */
+	
+	public final String getBaseURI() {
+		return this.baseURI;
+	}
+	
 	private final Response request(HTTPMethod method, String endPoint, RequestSpecification requestSpecification) {
 		Response response = null;
 		JsonPath responseJson = null;
@@ -37,7 +69,7 @@ public class RestAPI {
 		
 		for(int i = 1; i < 4; i++) {
 			try {
-				URL url = new URL(RestAssured.baseURI + endPoint);
+				URL url = new URL(this.baseURI + endPoint);
 				
 				switch(method) {
 				case GET:
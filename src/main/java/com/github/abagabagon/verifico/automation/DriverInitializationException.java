@@ -0,0 +1,20 @@
+package com.github.abagabagon.verifico.automation;
+
+/**
+ * Thrown when a Web or Mobile Driver could not be initialized.
+ * 
+ * @author albagabagon
+ *
+ */
+
+@SuppressWarnings("serial")
+public class DriverInitializationException extends RuntimeException {
+	
+	public DriverInitializationException(String message) {
+		super(message);
+	}
+	
+	public DriverInitializationException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
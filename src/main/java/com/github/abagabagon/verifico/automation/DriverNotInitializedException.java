@@ -0,0 +1,20 @@
+package com.github.abagabagon.verifico.automation;
+
+/**
+ * Thrown when a command is executed before the Web Browser or Application has been opened.
+ * 
+ * @author albagabagon
+ *
+ */
+
+@SuppressWarnings("serial")
+public class DriverNotInitializedException extends RuntimeException {
+	
+	public DriverNotInitializedException(String message) {
+		super(message);
+	}
+	
+	public DriverNotInitializedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,89 @@
+package com.github.abagabagon.verifico.automation;
+
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Bounded retry with exponential backoff for transient Driver start failures. Failures caused by the Driver
+ * configuration (<code>DriverInitializationException</code>) are not retried.
+ * <p>
+ * The default policy can be configured through the <code>verifico.launch.attempts</code> (default 3) and
+ * <code>verifico.launch.backoff</code> (initial backoff in milliseconds, default 500) System Properties.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class LaunchRetryPolicy {
+
+	private Logger log;
+	private int maxAttempts;
+	private long initialBackoffMillis;
+	private long maxBackoffMillis;
+
+	/**
+	 * Bounded retry with exponential backoff for transient Driver start failures
+	 *
+	 * @param maxAttempts			Maximum number of launch attempts.
+	 * @param initialBackoffMillis	Wait before the second attempt in milliseconds. Doubled on every succeeding attempt.
+	 * @param maxBackoffMillis		Maximum wait between attempts in milliseconds.
+	 */
+
+	public LaunchRetryPolicy(int maxAttempts, long initialBackoffMillis, long maxBackoffMillis) {
+		this.log = LogManager.getLogger(this.getClass());
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.initialBackoffMillis = Math.max(0, initialBackoffMillis);
+		this.maxBackoffMillis = Math.max(this.initialBackoffMillis, maxBackoffMillis);
+	}
+
+	/**
+	 * Gets the default Launch Retry Policy.
+	 *
+	 * @return Default Launch Retry Policy
+	 */
+
+	public static LaunchRetryPolicy getDefault() {
+		int attempts = Integer.getInteger("verifico.launch.attempts", 3);
+		long backoff = Long.getLong("verifico.launch.backoff", 500L);
+		return new LaunchRetryPolicy(attempts, backoff, 8000L);
+	}
+
+	/**
+	 * Launches a Driver, retrying transient failures.
+	 *
+	 * @param <T>			Driver Type
+	 * @param description	Description of the Driver being launched, used for logging.
+	 * @param launcher		Launches and returns the Driver.
+	 * @return				Launched Driver
+	 * @throws DriverInitializationException if the Driver could not be launched within the maximum number of attempts.
+	 */
+
+	public <T> T launch(String description, Supplier<T> launcher) {
+		long backoff = this.initialBackoffMillis;
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return launcher.get();
+			} catch (DriverInitializationException e) {
+				throw e;
+			} catch (WebDriverException e) {
+				if (attempt >= this.maxAttempts) {
+					throw new DriverInitializationException("Unable to initialize " + description + " after " + attempt + " attempt(s).", e);
+				}
+				this.log.warn("Unable to initialize " + description + ". Retrying launch (" + attempt + "/" + (this.maxAttempts - 1) + ") in " + backoff + " ms.");
+				this.log.debug(ExceptionUtils.getStackTrace(e));
+			}
+			try {
+				Thread.sleep(backoff);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new DriverInitializationException("Interrupted while retrying launch of " + description + ".", e);
+			}
+			backoff = Math.min(backoff * 2, this.maxBackoffMillis);
+		}
+	}
+
+}
@@ -17,6 +17,9 @@ import org.openqa.selenium.html5.Location;
 import org.openqa.selenium.interactions.touch.TouchActions;
 import org.openqa.selenium.support.ui.UnexpectedTagNameException;
 
+import com.github.abagabagon.verifico.automation.DriverInitializationException;
+import com.github.abagabagon.verifico.automation.DriverNotInitializedException;
+import com.github.abagabagon.verifico.automation.LaunchRetryPolicy;
 import com.github.abagabagon.verifico.enums.Mobile;
 
 import io.appium.java_client.AppiumDriver;
@@ -102,28 +105,29 @@ public class AppiumMobileAutomation implements MobileAutomation {
 	@Override
 	public void openApplication() {
 		this.log.debug("I open Application.");
+		LaunchRetryPolicy launchRetryPolicy = LaunchRetryPolicy.getDefault();
 		switch(this.mobile) {
 		case iOS:
-			this.driver = this.appiumMobileDriver.getIOSDriver(this.platformVersion, this.deviceName);
+			this.driver = launchRetryPolicy.launch("IOSDriver", () -> this.appiumMobileDriver.getIOSDriver(this.platformVersion, this.deviceName));
 			this.action = new TouchAction<IOSTouchAction>(this.driver);
 			break;
 		case Android:
 			switch(this.applicationSource) {
 			case File:
-				this.driver = this.appiumMobileDriver.getAndroidDriver(this.platformVersion, this.deviceName, this.applicationFile);
+				this.driver = launchRetryPolicy.launch("AndroidDriver", () -> this.appiumMobileDriver.getAndroidDriver(this.platformVersion, this.deviceName, this.applicationFile));
 				break;
 			case URL:
-				this.driver = this.appiumMobileDriver.getAndroidDriver(this.platformVersion, this.deviceName, this.applicationUrl, this.applicationFile);
+				this.driver = launchRetryPolicy.launch("AndroidDriver", () -> this.appiumMobileDriver.getAndroidDriver(this.platformVersion, this.deviceName, this.applicationUrl, this.applicationFile));
 				break;
 			default:
 				this.log.fatal("Unsupported Application Source Value.");
-				System.exit(1);
+				throw new DriverInitializationException("Unsupported Application Source Value: " + this.applicationSource + ".");
 			}
 			this.action = new TouchAction<AndroidTouchAction>(this.driver);
 			break;
 		default:
 			this.log.fatal("Encountered unsupported Mobile Platform while initializing AppiumDriver. Check defined Mobile Platform.");
-			System.exit(1);
+			throw new DriverInitializationException("Unsupported Mobile Platform: " + this.mobile + ".");
 		}
 		this.initializeImplicitWait(this.implicitWaitDuration);
 	}
@@ -150,7 +154,7 @@ public class AppiumMobileAutomation implements MobileAutomation {
 			this.log.error("Unable to close Application. Application might have already been closed or was never opened or initialized.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 			if (this.driver == null) {
-				System.exit(1);
+				throw new DriverNotInitializedException("Unable to close Application. Application was never opened or initialized.", e);
 			}
 		} catch (Exception e) {
 			this.log.error("Something went wrong while trying to close Application.");
@@ -1,8 +1,14 @@
 package com.github.abagabagon.verifico.automation.web;
 
+import java.util.List;
+import java.util.concurrent.Future;
+
 import org.openqa.selenium.By;
 import org.openqa.selenium.Keys;
 
+import com.github.abagabagon.verifico.enums.TimeoutCategory;
+import com.github.abagabagon.verifico.enums.WaitEngine;
+
 /**
  * Interface for Web Automation Commands
  * 
@@ -22,6 +28,14 @@ public interface WebAutomation {
 
 	public void openBrowser();
 	
+	/**
+	 * Opens Web Browser in the background so that other work (e. g. loading Test Data) can be done while the Browser starts.
+	 * 
+	 * @return Future that completes with this WebAutomation instance once the Web Browser is opened.
+	 */
+	
+	public Future<WebAutomation> openBrowserAsync();
+	
 	/**
 	 * Opens Tab.
 	 * 
@@ -106,6 +120,56 @@ public interface WebAutomation {
 	
 	public void deleteAllCookies();
 	
+	/**
+	 * Sets the Wait Engine used by Web Element waits.
+	 * 
+	 * @param waitEngine	<code>POLLING</code> to poll the Web Element through WebDriverWait.
+	 * 						<code>EVENT</code> to wait for the Web Element in the Page through an asynchronous script.
+	 * 						<code>ADAPTIVE</code> to poll the Web Element based on its time-to-ready history.
+	 */
+	
+	public void setWaitEngine(WaitEngine waitEngine);
+	
+	/**
+	 * Enables or disables the Web Element cache. Consecutive commands on the same locator reuse the Web Element
+	 * resolved by the previous command while no navigation or Tab switch has happened, and resolve it again once it
+	 * has become stale. Also enabled through the <code>verifico.element.cache</code> System Property.
+	 * 
+	 * @param isEnabled	<code>true</code> to enable the Web Element cache.
+	 * 					<code>false</code> to disable the Web Element cache.
+	 */
+	
+	public void setElementCache(boolean isEnabled);
+	
+	/**
+	 * Sets the Implicit Wait of the Web Driver. An Implicit Wait of 0 is the explicit-only mode, where only the
+	 * Timeout budgets apply.
+	 * 
+	 * @param duration Implicit Wait (Seconds).
+	 */
+	
+	public void setImplicitWait(long duration);
+	
+	/**
+	 * Sets the Timeout budget of the <code>ELEMENT</code>, <code>LIST</code> and <code>VALUE</code> Timeout Categories.
+	 * The <code>STEP</code> budget is raised to the duration if it is smaller.
+	 * 
+	 * @param duration Timeout budget (Seconds).
+	 */
+	
+	public void setExplicitWait(long duration);
+	
+	/**
+	 * Sets the Timeout budget of a Timeout Category. Every wait of a User Action is limited to the remaining
+	 * <code>STEP</code> budget, so the <code>STEP</code> budget is raised to the duration if it is smaller. Set
+	 * <code>STEP</code> after the other Timeout Categories to deliberately cut the waits of a User Action shorter.
+	 * 
+	 * @param category	Timeout Category to set.
+	 * @param duration	Timeout budget (Seconds).
+	 */
+	
+	public void setTimeout(TimeoutCategory category, long duration);
+	
 	/**
 	 * Scrolls Page
 	 * 
@@ -1422,6 +1486,62 @@ public interface WebAutomation {
 	
 	public String getValue(By parent, int index, By child);
 	
+	/**
+	 * Gets the visible innerText of each Web Element of the Web Element List, without any leading or trailing
+	 * whitespace. All texts are retrieved in a single round trip.
+	 * 
+	 * @param	locator Object used to locate Web Element List to get texts from.
+	 * @return	Retrieved Web Element Texts, in the order of the Web Element List.
+	 */
+	
+	public List<String> getTexts(By locator);
+	
+	/**
+	 * Gets the value of each Web Element of the Web Element List. All values are retrieved in a single round trip.
+	 * 
+	 * @param	locator Object used to locate Web Element List to get values from.
+	 * @return	Retrieved Web Element Values, in the order of the Web Element List.
+	 */
+	
+	public List<String> getValues(By locator);
+	
+	/**
+	 * Gets the value of the specified attribute of each Web Element of the Web Element List. All attribute values are
+	 * retrieved in a single round trip.
+	 * 
+	 * @param	locator		Object used to locate Web Element List to get attribute values from.
+	 * @param	attribute	Attribute to get value from.
+	 * @return	Retrieved Web Element Attribute Values, in the order of the Web Element List.
+	 */
+	
+	public List<String> getAttributeValues(By locator, String attribute);
+	
+	/**
+	 * Gets the data of a table in a single round trip. Each cell is the value of INPUT and TEXTAREA, the selected option
+	 * of SELECT or the visible innerText of other Web Elements. Cells without a matching Web Element are
+	 * <code>null</code>.
+	 * 
+	 * @param rowLocator	Locator of the Rows of the table.
+	 * @param cellLocators	Locators relative to the Row of each column. All Child Web Elements of each Row are used as
+	 * 						columns if no locator is specified.
+	 * @return Data in a form of an Object Array, with the same shape as <code>ExcelData.getSheetData</code>.
+	 */
+	
+	public Object[][] getTableData(By rowLocator, By... cellLocators);
+	
+	/**
+	 * Gets the value of the specified attribute of each cell of a table in a single round trip. Cells without a matching
+	 * Web Element are <code>null</code>.
+	 * 
+	 * @param rowLocator	Locator of the Rows of the table.
+	 * @param attribute		Attribute to get from each cell.
+	 * @param cellLocators	Locators relative to the Row of each column. All Child Web Elements of each Row are used as
+	 * 						columns if no locator is specified.
+	 * @return Data in a form of an Object Array, with the same shape as <code>ExcelData.getSheetData</code>.
+	 */
+	
+	public Object[][] getTableData(By rowLocator, String attribute, By... cellLocators);
+	
 	/**
 	 * Gets the value of the specified Web Element from a row in a table based on text value from the same row.
 	 * 
@@ -1679,6 +1799,82 @@ public interface WebAutomation {
 
 	public void wait(int duration);
 	
+	/**
+	 * Waits for the network to be idle. Uses the Chrome DevTools Protocol on Chromium Browsers and the injected
+	 * fetch and XMLHttpRequest instrumentation on other Browsers.
+	 * 
+	 * @param quietMillis	Time (Milliseconds) the network must stay idle.
+	 * @param maxInflight	Maximum number of in-flight requests for the network to be idle.
+	 * @return <code>true</code> if the network became idle within the wait time.
+	 */
+	
+	public boolean waitForNetworkIdle(long quietMillis, int maxInflight);
+	
+	/**
+	 * Waits for the current Page to reach a Page lifecycle event, such as <code>DOMContentLoaded</code>,
+	 * <code>load</code>, <code>networkAlmostIdle</code> or <code>networkIdle</code>. Uses the Chrome DevTools Protocol
+	 * on Chromium Browsers. Other Browsers only support these four events, through the Document Ready State and the
+	 * network idle wait.
+	 * 
+	 * @param name	Name of the Page lifecycle event.
+	 * @return <code>true</code> if the Page reached the event within the wait time.
+	 */
+	
+	public boolean waitForPageLifecycleEvent(String name);
+	
+	/**
+	 * Takes a Snapshot of the Web Page. The Snapshot commands read the Snapshot inside the JVM instead of the Browser
+	 * until it is cleared or replaced.
+	 * 
+	 * @return <code>true</code> if the Snapshot was taken.
+	 */
+	
+	public boolean takeSnapshot();
+	
+	/**
+	 * Takes a Snapshot of a container Web Element. The Snapshot commands read the Snapshot inside the JVM instead of the
+	 * Browser until it is cleared or replaced.
+	 * 
+	 * @param locator Object used to locate the container Web Element.
+	 * @return <code>true</code> if the Snapshot was taken.
+	 */
+	
+	public boolean takeSnapshot(By locator);
+	
+	/**
+	 * Clears the Snapshot. Take a new Snapshot after the Web Page changes.
+	 */
+	
+	public void clearSnapshot();
+	
+	/**
+	 * Gets the text of a Web Element from the Snapshot.
+	 * 
+	 * @param locator Object used to locate the Web Element in the Snapshot. Supports id, name, class name, tag name, CSS selector and XPath.
+	 * @return Text of the Web Element
+	 */
+	
+	public String getSnapshotText(By locator);
+	
+	/**
+	 * Gets the attribute value of a Web Element from the Snapshot.
+	 * 
+	 * @param locator	Object used to locate the Web Element in the Snapshot. Supports id, name, class name, tag name, CSS selector and XPath.
+	 * @param attribute	Attribute of the Web Element to get.
+	 * @return Attribute value of the Web Element
+	 */
+	
+	public String getSnapshotAttributeValue(By locator, String attribute);
+	
+	/**
+	 * Counts instances of a Web Element in the Snapshot.
+	 * 
+	 * @param locator Object used to locate the Web Elements in the Snapshot. Supports id, name, class name, tag name, CSS selector and XPath.
+	 * @return Number of Web Elements in the Snapshot
+	 */
+	
+	public int countSnapshot(By locator);
+	
 	/*#######################################################*/
 	/*                     VERIFICATIONS                     */
 	/*#######################################################*/
@@ -2650,6 +2846,39 @@ public interface WebAutomation {
 
 	public boolean deselected(By locator);
 	
+	/**
+	 * Verifies Web Element is displayed in the Snapshot.
+	 * 
+	 * @param locator Object used to locate the Web Element in the Snapshot.
+	 * @return	<code>true</code> if Web Element is displayed in the Snapshot.
+	 * 			<code>false</code> if Web Element is not displayed or not in the Snapshot.
+	 */
+
+	public boolean seeSnapshot(By locator);
+	
+	/**
+	 * Verifies text of a Web Element in the Snapshot if equal to the expected value.
+	 * 
+	 * @param locator		Object used to locate the Web Element in the Snapshot.
+	 * @param expectedValue	Expected text value of the Web Element.
+	 * @return	<code>true</code> if text value is equal to the expected value.
+	 * 			<code>false</code> if text value is not equal to the expected value.
+	 */
+
+	public boolean seeSnapshotText(By locator, String expectedValue);
+	
+	/**
+	 * Verifies attribute value of a Web Element in the Snapshot if equal to the expected value.
+	 * 
+	 * @param locator		Object used to locate the Web Element in the Snapshot.
+	 * @param attribute		Attribute of the Web Element to verify.
+	 * @param expectedValue	Expected attribute value of the Web Element.
+	 * @return	<code>true</code> if attribute value is equal to the expected value.
+	 * 			<code>false</code> if attribute value is not equal to the expected value.
+	 */
+
+	public boolean seeSnapshotAttributeValue(By locator, String attribute, String expectedValue);
+	
 	/**
 	 * Verifies Web Element is displayed from a row in a table based on text value from the same row.
 	 * 
@@ -45,7 +45,7 @@ public class AppiumWebAutomation extends SeleniumWebAutomation {
 		this.driver = this.appiumWebDriver.getWebDriver(this.mobile, this.browser, this.platformVersion, this.deviceName);
 		this.driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(30));
 		this.driver.manage().timeouts().setScriptTimeout(Duration.ofSeconds(30));
-		this.driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+		this.driver.manage().timeouts().implicitlyWait(this.getTimeouts().getImplicitWait());
 		deleteAllCookies();
 	}
 
@@ -6,11 +6,12 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.remote.DesiredCapabilities;
 
+import com.github.abagabagon.verifico.automation.DriverInitializationException;
+import com.github.abagabagon.verifico.automation.LaunchRetryPolicy;
 import com.github.abagabagon.verifico.enums.Browser;
 import com.github.abagabagon.verifico.enums.Mobile;
 
@@ -38,29 +39,30 @@ public class AppiumWebDriver {
 	WebDriver getWebDriver(Mobile mobile, Browser browser, String platformVersion, String deviceName) {
 		this.log.trace("Initializing Appium Web Driver.");
 		try {
-			switch (browser) {
-			case CHROME:
-				this.driver = this.getChromeDriver(mobile, platformVersion, deviceName);
-				break;
-			case SAFARI:
-				this.driver = this.getSafariDriver(mobile, platformVersion, deviceName);
-				break;
-			default:
-				this.log.fatal("Unsupported Web Browser.");
-				System.exit(1);
-			}
-		} catch (WebDriverException e) {
-			this.log.fatal("Encountered WebDriverException while initializing Appium Web Driver.");
+			this.driver = LaunchRetryPolicy.getDefault().launch("Appium Web Driver for " + browser, () -> this.launch(mobile, browser, platformVersion, deviceName));
+		} catch (DriverInitializationException e) {
+			this.log.fatal(e.getMessage());
 			this.log.debug(ExceptionUtils.getStackTrace(e));
-			System.exit(1);
+			throw e;
 		} catch (Exception e) {
 			this.log.fatal("Encountered Exception while initializing Appium Web Driver.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
-			System.exit(1);
+			throw new DriverInitializationException("Unable to initialize Appium Web Driver for " + browser + ".", e);
 		}
 		return this.driver;
 	}
 	
+	private WebDriver launch(Mobile mobile, Browser browser, String platformVersion, String deviceName) {
+		switch (browser) {
+		case CHROME:
+			return this.getChromeDriver(mobile, platformVersion, deviceName);
+		case SAFARI:
+			return this.getSafariDriver(mobile, platformVersion, deviceName);
+		default:
+			throw new DriverInitializationException("Unsupported Web Browser: " + browser + ".");
+		}
+	}
+	
 	/**
 	 * Initializes and returns AppiumDriver Object configured for Chrome.
 	 * 
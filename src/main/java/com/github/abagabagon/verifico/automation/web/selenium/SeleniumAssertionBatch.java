@@ -0,0 +1,270 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openqa.selenium.By;
+
+/**
+ * Batch of Web Element checks verified together by <code>seeAll()</code>. All pending checks are evaluated by a single
+ * script per attempt, and only the failing checks are evaluated again until the step deadline passes.
+ *
+ * <pre>
+ * SeleniumAssertionBatch batch = new SeleniumAssertionBatch()
+ * 		.seeText(PageProfile.NAME, "Juan")
+ * 		.seeAttributeValue(PageProfile.EMAIL, "value", "juan@yopmail.com")
+ * 		.seeEnabled(PageProfile.SAVE_BUTTON);
+ * I.seeAll(batch);
+ * </pre>
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumAssertionBatch {
+
+	static final String TEXT = "text";
+	static final String PARTIAL_TEXT = "partialText";
+	static final String ATTRIBUTE = "attribute";
+	static final String PARTIAL_ATTRIBUTE = "partialAttribute";
+	static final String DISPLAYED = "displayed";
+	static final String NOT_DISPLAYED = "notDisplayed";
+	static final String ENABLED = "enabled";
+	static final String DISABLED = "disabled";
+	static final String SELECTED = "selected";
+	static final String DESELECTED = "deselected";
+
+	private List<Check> checks;
+
+	private static class Check {
+
+		private By locator;
+		private String predicate;
+		private String attribute;
+		private String expectedValue;
+		private boolean isPassed;
+		private String actualValue;
+
+		private Check(By locator, String predicate, String attribute, String expectedValue) {
+			this.locator = locator;
+			this.predicate = predicate;
+			this.attribute = attribute;
+			this.expectedValue = expectedValue;
+			this.isPassed = false;
+		}
+
+	}
+
+	public SeleniumAssertionBatch() {
+		this.checks = new ArrayList<Check>();
+	}
+
+	private SeleniumAssertionBatch add(By locator, String predicate, String attribute, String expectedValue) {
+		this.checks.add(new Check(locator, predicate, attribute, expectedValue));
+		return this;
+	}
+
+	/**
+	 * Adds a check that the text of the Web Element is equal to the expected value.
+	 *
+	 * @param locator		Object used to locate Web Element to verify.
+	 * @param expectedValue	Expected text value of the Web Element.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch seeText(By locator, String expectedValue) {
+		return this.add(locator, TEXT, null, expectedValue);
+	}
+
+	/**
+	 * Adds a check that the text of the Web Element contains the expected value.
+	 *
+	 * @param locator		Object used to locate Web Element to verify.
+	 * @param expectedValue	Expected partial text value of the Web Element.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch seePartialText(By locator, String expectedValue) {
+		return this.add(locator, PARTIAL_TEXT, null, expectedValue);
+	}
+
+	/**
+	 * Adds a check that the attribute value of the Web Element is equal to the expected value.
+	 *
+	 * @param locator		Object used to locate Web Element to verify.
+	 * @param attribute		Attribute of the Web Element to verify.
+	 * @param expectedValue	Expected attribute value of the Web Element.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch seeAttributeValue(By locator, String attribute, String expectedValue) {
+		return this.add(locator, ATTRIBUTE, attribute, expectedValue);
+	}
+
+	/**
+	 * Adds a check that the attribute value of the Web Element contains the expected value.
+	 *
+	 * @param locator		Object used to locate Web Element to verify.
+	 * @param attribute		Attribute of the Web Element to verify.
+	 * @param expectedValue	Expected partial attribute value of the Web Element.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch seePartialAttributeValue(By locator, String attribute, String expectedValue) {
+		return this.add(locator, PARTIAL_ATTRIBUTE, attribute, expectedValue);
+	}
+
+	/**
+	 * Adds a check that the Web Element is displayed.
+	 *
+	 * @param locator Object used to locate Web Element to verify.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch see(By locator) {
+		return this.add(locator, DISPLAYED, null, null);
+	}
+
+	/**
+	 * Adds a check that the Web Element is not displayed.
+	 *
+	 * @param locator Object used to locate Web Element to verify.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch dontSee(By locator) {
+		return this.add(locator, NOT_DISPLAYED, null, null);
+	}
+
+	/**
+	 * Adds a check that the Web Element is enabled.
+	 *
+	 * @param locator Object used to locate Web Element to verify.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch seeEnabled(By locator) {
+		return this.add(locator, ENABLED, null, null);
+	}
+
+	/**
+	 * Adds a check that the Web Element is disabled.
+	 *
+	 * @param locator Object used to locate Web Element to verify.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch seeDisabled(By locator) {
+		return this.add(locator, DISABLED, null, null);
+	}
+
+	/**
+	 * Adds a check that the Web Element is selected.
+	 *
+	 * @param locator Object used to locate Web Element to verify.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch selected(By locator) {
+		return this.add(locator, SELECTED, null, null);
+	}
+
+	/**
+	 * Adds a check that the Web Element is not selected.
+	 *
+	 * @param locator Object used to locate Web Element to verify.
+	 * @return This Assertion Batch
+	 */
+
+	public SeleniumAssertionBatch deselected(By locator) {
+		return this.add(locator, DESELECTED, null, null);
+	}
+
+	/**
+	 * Gets the number of checks in the Assertion Batch.
+	 *
+	 * @return Number of checks
+	 */
+
+	public int size() {
+		return this.checks.size();
+	}
+
+	/**
+	 * Checks if a check passed on the last <code>seeAll()</code>.
+	 *
+	 * @param index Index of the check, in the order it was added.
+	 * @return <code>true</code> if the check passed.
+	 */
+
+	public boolean isPassed(int index) {
+		return this.checks.get(index).isPassed;
+	}
+
+	/**
+	 * Gets the actual value found by a check on the last <code>seeAll()</code>: the text or attribute value for value
+	 * checks, or the state of the Web Element for state checks.
+	 *
+	 * @param index Index of the check, in the order it was added.
+	 * @return Actual value, <code>null</code> if the Web Element was not found.
+	 */
+
+	public String getActualValue(int index) {
+		return this.checks.get(index).actualValue;
+	}
+
+	/**
+	 * Gets the indexes of the checks that failed on the last <code>seeAll()</code>.
+	 *
+	 * @return Indexes of the failed checks
+	 */
+
+	public List<Integer> getFailedIndexes() {
+		List<Integer> failed = new ArrayList<Integer>();
+		for (int i = 0; i < this.checks.size(); i++) {
+			if (!this.checks.get(i).isPassed) {
+				failed.add(i);
+			}
+		}
+		return failed;
+	}
+
+	By getLocator(int index) {
+		return this.checks.get(index).locator;
+	}
+
+	String getPredicate(int index) {
+		return this.checks.get(index).predicate;
+	}
+
+	String getAttribute(int index) {
+		return this.checks.get(index).attribute;
+	}
+
+	String getExpectedValue(int index) {
+		return this.checks.get(index).expectedValue;
+	}
+
+	void setResult(int index, boolean isPassed, String actualValue) {
+		Check check = this.checks.get(index);
+		check.isPassed = isPassed;
+		check.actualValue = actualValue;
+	}
+
+	void reset() {
+		for (Check check : this.checks) {
+			check.isPassed = false;
+			check.actualValue = null;
+		}
+	}
+
+	String describe(int index) {
+		Check check = this.checks.get(index);
+		String description = check.predicate + " of Web Element: \"" + check.locator.toString() + "\"";
+		if (check.attribute != null) {
+			description = check.predicate + " \"" + check.attribute + "\" of Web Element: \"" + check.locator.toString() + "\"";
+		}
+		return check.expectedValue != null ? description + " is \"" + check.expectedValue + "\"" : description;
+	}
+
+}
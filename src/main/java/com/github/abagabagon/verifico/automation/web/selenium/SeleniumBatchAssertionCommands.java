@@ -0,0 +1,203 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+public class SeleniumBatchAssertionCommands extends SeleniumCommands {
+
+	protected WebDriver driver;
+	protected Logger log;
+	private SeleniumWait seleniumWait;
+
+	static final String BATCH_SCRIPT = "var checks = arguments[0];"
+			+ SeleniumQuiescence.FIND_FUNCTION
+			+ SeleniumTableQuery.VALUE_OF_FUNCTION
+			+ "function isVisible(element) {"
+			+ "  if (element.getClientRects().length === 0) { return false; }"
+			+ "  var style = window.getComputedStyle(element); return style.visibility !== 'hidden' && style.display !== 'none';"
+			+ "}"
+			+ "var results = [];"
+			+ "for (var i = 0; i < checks.length; i++) {"
+			+ "  var predicate = checks[i][2], attribute = checks[i][3], expected = checks[i][4];"
+			+ "  var found = find(document, checks[i][0], checks[i][1]), element = found.length > 0 ? found[0] : null, passed = false, actual = null;"
+			+ "  try {"
+			+ "    if (predicate === 'notDisplayed') { passed = !element || !isVisible(element); actual = passed ? 'not displayed' : 'displayed'; }"
+			+ "    else if (element) {"
+			+ "      switch (predicate) {"
+			+ "      case 'text': actual = valueOf(element, null); passed = actual === expected; break;"
+			+ "      case 'partialText': actual = valueOf(element, null); passed = actual.indexOf(expected) >= 0; break;"
+			+ "      case 'attribute': actual = valueOf(element, attribute); passed = actual === expected; break;"
+			+ "      case 'partialAttribute': actual = valueOf(element, attribute); passed = actual !== null && actual.indexOf(expected) >= 0; break;"
+			+ "      case 'displayed': passed = isVisible(element); actual = passed ? 'displayed' : 'not displayed'; break;"
+			+ "      case 'enabled': passed = !element.disabled; actual = passed ? 'enabled' : 'disabled'; break;"
+			+ "      case 'disabled': passed = !!element.disabled; actual = passed ? 'disabled' : 'enabled'; break;"
+			+ "      case 'selected': passed = !!(element.checked || element.selected); actual = passed ? 'selected' : 'deselected'; break;"
+			+ "      case 'deselected': passed = !(element.checked || element.selected); actual = passed ? 'deselected' : 'selected'; break;"
+			+ "      }"
+			+ "    }"
+			+ "  } catch (e) {}"
+			+ "  results.push([passed, actual]);"
+			+ "}"
+			+ "return results;";
+
+	public SeleniumBatchAssertionCommands(WebDriver driver, SeleniumWait seleniumWait) {
+		super(driver, seleniumWait);
+		this.log = LogManager.getLogger(this.getClass());
+		this.driver = driver;
+		this.seleniumWait = seleniumWait;
+	}
+
+	/**
+	 * Verifies all checks of the Assertion Batch. Pending checks are evaluated by a single script per attempt, and
+	 * failing checks are evaluated again until all pass or the step deadline passes.
+	 *
+	 * @param batch	Assertion Batch to verify.
+	 * @return	<code>true</code> if all checks passed.
+	 * 			<code>false</code> if at least one check failed.
+	 */
+
+	boolean isBatchEqual(SeleniumAssertionBatch batch) {
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			batch.reset();
+			List<Integer> pending = new ArrayList<Integer>();
+			for (int i = 0; i < batch.size(); i++) {
+				pending.add(i);
+			}
+			int attempts = 0;
+			while (!pending.isEmpty()) {
+				attempts++;
+				this.seleniumWait.waitForPage();
+				this.evaluate(batch, pending);
+				List<Integer> failed = new ArrayList<Integer>();
+				for (int index : pending) {
+					if (!batch.isPassed(index)) {
+						failed.add(index);
+					}
+				}
+				pending = failed;
+				if (pending.isEmpty() || deadline.isExpired()) {
+					break;
+				}
+				this.log.trace(pending.size() + " of " + batch.size() + " check(s) failed. Retrying failed checks.");
+				try {
+					Thread.sleep(Math.min(250, deadline.getRemaining().toMillis()));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					this.log.error("Encountered InterruptedException while waiting to retry.");
+					break;
+				}
+			}
+			for (int i = 0; i < batch.size(); i++) {
+				if (batch.isPassed(i)) {
+					this.log.debug("I saw " + batch.describe(i) + ".");
+				} else {
+					this.log.error("I didn't see " + batch.describe(i) + ". Actual value is \"" + batch.getActualValue(i) + "\".");
+				}
+			}
+			this.log.trace("Verified " + batch.size() + " check(s) in " + attempts + " attempt(s).");
+			return pending.isEmpty();
+		} finally {
+			this.endStep();
+		}
+	}
+
+	private void evaluate(SeleniumAssertionBatch batch, List<Integer> pending) {
+		List<Integer> scripted = new ArrayList<Integer>();
+		List<Object> checks = new ArrayList<Object>();
+		for (int index : pending) {
+			String[] locator = SeleniumQuiescence.toScriptLocator(batch.getLocator(index));
+			if (locator != null) {
+				scripted.add(index);
+				checks.add(new Object[] { locator[0], locator[1], batch.getPredicate(index), batch.getAttribute(index), batch.getExpectedValue(index) });
+			} else {
+				this.evaluate(batch, index);
+			}
+		}
+		if (scripted.isEmpty()) {
+			return;
+		}
+		try {
+			Object result = ((JavascriptExecutor) this.driver).executeScript(BATCH_SCRIPT, checks);
+			if (result instanceof List) {
+				List<?> results = (List<?>) result;
+				for (int i = 0; i < results.size() && i < scripted.size(); i++) {
+					List<?> values = (List<?>) results.get(i);
+					batch.setResult(scripted.get(i), Boolean.TRUE.equals(values.get(0)), values.get(1) == null ? null : String.valueOf(values.get(1)));
+				}
+			}
+		} catch (WebDriverException e) {
+			this.log.debug("Encountered Exception while evaluating Assertion Batch.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private void evaluate(SeleniumAssertionBatch batch, int index) {
+		By locator = batch.getLocator(index);
+		String expectedValue = batch.getExpectedValue(index);
+		boolean isPassed = false;
+		String actualValue = null;
+		try {
+			List<WebElement> elements = this.driver.findElements(locator);
+			WebElement element = elements.isEmpty() ? null : elements.get(0);
+			if (batch.getPredicate(index).equals(SeleniumAssertionBatch.NOT_DISPLAYED)) {
+				isPassed = element == null || !element.isDisplayed();
+				actualValue = isPassed ? "not displayed" : "displayed";
+			} else if (element != null) {
+				switch (batch.getPredicate(index)) {
+				case SeleniumAssertionBatch.TEXT:
+					actualValue = element.getText();
+					isPassed = actualValue.equals(expectedValue);
+					break;
+				case SeleniumAssertionBatch.PARTIAL_TEXT:
+					actualValue = element.getText();
+					isPassed = actualValue.contains(expectedValue);
+					break;
+				case SeleniumAssertionBatch.ATTRIBUTE:
+					actualValue = element.getAttribute(batch.getAttribute(index));
+					isPassed = actualValue != null && actualValue.equals(expectedValue);
+					break;
+				case SeleniumAssertionBatch.PARTIAL_ATTRIBUTE:
+					actualValue = element.getAttribute(batch.getAttribute(index));
+					isPassed = actualValue != null && actualValue.contains(expectedValue);
+					break;
+				case SeleniumAssertionBatch.DISPLAYED:
+					isPassed = element.isDisplayed();
+					actualValue = isPassed ? "displayed" : "not displayed";
+					break;
+				case SeleniumAssertionBatch.ENABLED:
+					isPassed = element.isEnabled();
+					actualValue = isPassed ? "enabled" : "disabled";
+					break;
+				case SeleniumAssertionBatch.DISABLED:
+					isPassed = !element.isEnabled();
+					actualValue = isPassed ? "disabled" : "enabled";
+					break;
+				case SeleniumAssertionBatch.SELECTED:
+					isPassed = element.isSelected();
+					actualValue = isPassed ? "selected" : "deselected";
+					break;
+				case SeleniumAssertionBatch.DESELECTED:
+					isPassed = !element.isSelected();
+					actualValue = isPassed ? "deselected" : "selected";
+					break;
+				default:
+					this.log.fatal("Unsupported Assertion Action.");
+				}
+			}
+		} catch (WebDriverException e) {
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+		batch.setResult(index, isPassed, actualValue);
+	}
+
+}
@@ -10,6 +10,8 @@ import org.openqa.selenium.NoSuchWindowException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 
+import com.github.abagabagon.verifico.automation.DriverNotInitializedException;
+
 public class SeleniumBrowserCommands extends SeleniumCommands {
 
 	protected WebDriver driver;
@@ -30,6 +32,7 @@ public class SeleniumBrowserCommands extends SeleniumCommands {
 		try {
 			switch(browserAction) {
 			case OPEN_TAB:
+				this.seleniumWait.invalidateWindow();
 				String link = "window.open('" + input + "', '_blank');";
 				this.javascriptExecutor.executeScript(link);
 				break;
@@ -40,22 +43,27 @@ public class SeleniumBrowserCommands extends SeleniumCommands {
 				this.driver.manage().deleteAllCookies();
 				break;
 			case GO_TO:
+				this.seleniumWait.invalidatePage();
 				this.driver.get(input);
 				this.seleniumWait.waitForPage();
 				break;
 			case BACK:
+				this.seleniumWait.invalidatePage();
 				this.driver.navigate().back();
 				this.seleniumWait.waitForPage();
 				break;
 			case FORWARD:
+				this.seleniumWait.invalidatePage();
 				this.driver.navigate().forward();
 				this.seleniumWait.waitForPage();
 				break;
 			case REFRESH:
+				this.seleniumWait.invalidatePage();
 				this.driver.navigate().refresh();
 				this.seleniumWait.waitForPage();
 				break;
 			case CLOSE_TAB:
+				this.seleniumWait.invalidateWindow();
 				this.driver.close();
 				break;
 			case CLOSE_BROWSER:
@@ -68,7 +76,7 @@ public class SeleniumBrowserCommands extends SeleniumCommands {
 			this.log.fatal("Unable to perform \"" + String.valueOf(browserAction) + "\". Browser might not have been opened or initialized.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 			if (this.driver == null) {
-				System.exit(1);
+				throw new DriverNotInitializedException("Unable to perform \"" + String.valueOf(browserAction) + "\". Browser might not have been opened or initialized.", e);
 			}
 		} catch (TimeoutException e) {
 			this.log.fatal("Wait time to perform \"" + String.valueOf(browserAction) + "\" has expired.");
@@ -82,52 +90,50 @@ public class SeleniumBrowserCommands extends SeleniumCommands {
 	
 	boolean executeSwitchTab(SwitchAction switchAction, String input) {
 		this.log.debug("I switch to Tab with Page URL/Title: \"" + input + "\".");
-		boolean isExisting = false;
-		for(int i = 1; i <= 4; i++) {
-			Set<String> windows = this.driver.getWindowHandles();
-			for (String windowId: windows) {
-				this.driver.switchTo().window(windowId);
-				try {
-					switch(switchAction) {
-					case BY_TITLE:
-						String currentTitle = this.driver.getTitle();
-						if(currentTitle.equals(input)) {
-							isExisting = true;
-							this.log.debug("Successfully switched to Tab with Title: \"" + input + "\".");
-							break;
-						}
-					case BY_URL:
-						String currentUrl = this.driver.getCurrentUrl();
-						if(currentUrl.equals(input)) {
-							isExisting = true;
-							this.log.debug("Successfully switched to Tab with URL: \"" + input + "\".");
+		this.seleniumWait.invalidateWindow();
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			return this.retry(deadline, "Tab with the Page URL/Title: \"" + input + "\" was not found.", () -> {
+				boolean isExisting = false;
+				this.recordFailure(null);
+				Set<String> windows = this.driver.getWindowHandles();
+				for (String windowId: windows) {
+					this.driver.switchTo().window(windowId);
+					try {
+						switch(switchAction) {
+						case BY_TITLE:
+							String currentTitle = this.driver.getTitle();
+							if(currentTitle.equals(input)) {
+								isExisting = true;
+								this.log.debug("Successfully switched to Tab with Title: \"" + input + "\".");
+								break;
+							}
+						case BY_URL:
+							String currentUrl = this.driver.getCurrentUrl();
+							if(currentUrl.equals(input)) {
+								isExisting = true;
+								this.log.debug("Successfully switched to Tab with URL: \"" + input + "\".");
+								break;
+							}
 							break;
+						default:
+							this.log.fatal("Unsupported Switch Action.");
 						}
-						break;
-					default:
-						this.log.fatal("Unsupported Switch Action.");
-					}
 
-				} catch (NoSuchWindowException e) {
-					this.log.error("Tab with URL/Title: \"" + input + "\" could not be found. Please check if provided Page Title is correct.");
-					this.log.debug(ExceptionUtils.getStackTrace(e));
-				} catch (Exception e) {
-					this.log.error("Something went wrong while trying to switch tab by URL/Title: \"" + input + "\".");
-					this.log.debug(ExceptionUtils.getStackTrace(e));
-				}
-			}
-			if (!isExisting) {
-				if(i < 4) {
-					this.log.debug("Tab with the Page URL/Title: \"" + input + "\" was not found. Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.debug("Tab with the Page URL/Title: \"" + input + "\" was not found.");
+					} catch (NoSuchWindowException e) {
+						this.log.error("Tab with URL/Title: \"" + input + "\" could not be found. Please check if provided Page Title is correct.");
+						this.log.debug(ExceptionUtils.getStackTrace(e));
+					} catch (Exception e) {
+						this.recordFailure(e);
+						this.log.error("Something went wrong while trying to switch tab by URL/Title: \"" + input + "\".");
+						this.log.debug(ExceptionUtils.getStackTrace(e));
+					}
 				}
-			} else {
-				break;
-			}
+				return isExisting;
+			});
+		} finally {
+			this.endStep();
 		}
-		return isExisting;
 	}
 	
 }
\ No newline at end of file
@@ -0,0 +1,181 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import com.github.abagabagon.verifico.enums.Browser;
+import com.github.abagabagon.verifico.enums.LaunchProfile;
+import com.github.abagabagon.verifico.enums.PageLoadStrategy;
+
+/**
+ * Background Browser launches. Keeps a number of Browsers booting in the background so that the next
+ * <code>openBrowser()</code> takes one that has already started. Prewarmed Browsers that were not taken are quit on
+ * JVM exit.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumBrowserLauncher {
+
+	private static Logger log;
+	private static ExecutorService executor;
+	private static Map<String, ConcurrentLinkedQueue<Future<WebDriver>>> prewarmed;
+	private static final ThreadLocal<Boolean> isLauncherThread = ThreadLocal.withInitial(() -> false);
+	private static boolean isShutdownHookAdded;
+
+	static {
+		log = LogManager.getLogger(SeleniumBrowserLauncher.class);
+		log.debug("Initializing SeleniumBrowserLauncher Class.");
+		executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(() -> {
+				isLauncherThread.set(true);
+				runnable.run();
+			}, "verifico-browser-launcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		prewarmed = new ConcurrentHashMap<String, ConcurrentLinkedQueue<Future<WebDriver>>>();
+		isShutdownHookAdded = false;
+		log.debug("Successfully initialized SeleniumBrowserLauncher Class.");
+	}
+
+	/**
+	 * Keeps a number of Browsers booting in the background. Each prewarmed Browser taken by
+	 * <code>openBrowser()</code> is replaced by a new one.
+	 *
+	 * @param browser		Specific Web Browser to prewarm.
+	 * @param isHeadless	<code>true</code> if prewarmed Browsers are headless.
+	 * 						<code>false</code> if prewarmed Browsers are not headless.
+	 * @param count			Number of Browsers to keep booting in the background.
+	 */
+
+	public static void prewarm(Browser browser, boolean isHeadless, int count) {
+		prewarm(browser, isHeadless, LaunchProfile.DEFAULT, PageLoadStrategy.NORMAL, count);
+	}
+	
+	/**
+	 * Keeps a number of Browsers of the Launch Profile booting in the background. Each prewarmed Browser taken by
+	 * <code>openBrowser()</code> is replaced by a new one.
+	 *
+	 * @param browser		Specific Web Browser to prewarm.
+	 * @param isHeadless	<code>true</code> if prewarmed Browsers are headless.
+	 * 						<code>false</code> if prewarmed Browsers are not headless.
+	 * @param launchProfile	Launch Profile of the prewarmed Browsers.
+	 * @param count			Number of Browsers to keep booting in the background.
+	 */
+
+	public static void prewarm(Browser browser, boolean isHeadless, LaunchProfile launchProfile, int count) {
+		prewarm(browser, isHeadless, launchProfile, PageLoadStrategy.NORMAL, count);
+	}
+	
+	/**
+	 * Keeps a number of Browsers of the Launch Profile and Page Load Strategy booting in the background. Each prewarmed
+	 * Browser taken by <code>openBrowser()</code> is replaced by a new one.
+	 *
+	 * @param browser			Specific Web Browser to prewarm.
+	 * @param isHeadless		<code>true</code> if prewarmed Browsers are headless.
+	 * 							<code>false</code> if prewarmed Browsers are not headless.
+	 * @param launchProfile		Launch Profile of the prewarmed Browsers.
+	 * @param pageLoadStrategy	Page Load Strategy of the prewarmed Browsers.
+	 * @param count				Number of Browsers to keep booting in the background.
+	 */
+
+	public static void prewarm(Browser browser, boolean isHeadless, LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy, int count) {
+		log.debug("Prewarming " + count + " " + browser + " Browser(s).");
+		addShutdownHook();
+		ConcurrentLinkedQueue<Future<WebDriver>> queue = prewarmed.computeIfAbsent(key(browser, isHeadless, launchProfile, pageLoadStrategy), k -> new ConcurrentLinkedQueue<Future<WebDriver>>());
+		for (int i = queue.size(); i < count; i++) {
+			queue.offer(launch(browser, isHeadless, launchProfile, pageLoadStrategy));
+		}
+	}
+
+	/**
+	 * Stops prewarming Browsers and quits all prewarmed Browsers that have not been taken.
+	 */
+
+	public static void stopPrewarm() {
+		log.debug("Stopping Browser prewarm.");
+		for (ConcurrentLinkedQueue<Future<WebDriver>> queue : prewarmed.values()) {
+			Future<WebDriver> future;
+			while ((future = queue.poll()) != null) {
+				try {
+					future.get().quit();
+				} catch (Exception e) {
+					log.debug(ExceptionUtils.getStackTrace(e));
+				}
+			}
+		}
+		prewarmed.clear();
+		log.debug(SeleniumLaunchMetrics.getSummary());
+	}
+
+	/**
+	 * Takes a prewarmed Browser and starts booting its replacement.
+	 *
+	 * @param browser		Specific Web Browser to take.
+	 * @param isHeadless	<code>true</code> if Browser is headless.
+	 * @param launchProfile	Launch Profile of the Browser.
+	 * @param pageLoadStrategy	Page Load Strategy of the Browser.
+	 * @return Prewarmed Web Driver, <code>null</code> if no Browser is prewarmed or the prewarmed Browser failed to boot.
+	 */
+
+	static WebDriver takePrewarmed(Browser browser, boolean isHeadless, LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy) {
+		ConcurrentLinkedQueue<Future<WebDriver>> queue = prewarmed.get(key(browser, isHeadless, launchProfile, pageLoadStrategy));
+		if (queue == null) {
+			return null;
+		}
+		Future<WebDriver> future = queue.poll();
+		if (future == null) {
+			return null;
+		}
+		queue.offer(launch(browser, isHeadless, launchProfile, pageLoadStrategy));
+		try {
+			WebDriver driver = future.get();
+			log.debug("Using prewarmed " + browser + " Browser.");
+			return driver;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException e) {
+			log.warn("Prewarmed " + browser + " Browser failed to boot. Launching Browser in the foreground.");
+			log.debug(ExceptionUtils.getStackTrace(e));
+			return null;
+		}
+	}
+
+	static <T> Future<T> submit(Callable<T> task) {
+		return executor.submit(task);
+	}
+
+	static boolean isLauncherThread() {
+		return isLauncherThread.get();
+	}
+
+	private static synchronized void addShutdownHook() {
+		if (!isShutdownHookAdded) {
+			Runtime.getRuntime().addShutdownHook(new Thread(SeleniumBrowserLauncher::stopPrewarm, "verifico-browser-prewarm-shutdown"));
+			isShutdownHookAdded = true;
+		}
+	}
+
+	private static Future<WebDriver> launch(Browser browser, boolean isHeadless, LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy) {
+		return executor.submit(() -> new SeleniumWebDriver(launchProfile, pageLoadStrategy).startWebDriver(browser, isHeadless));
+	}
+
+	private static String key(Browser browser, boolean isHeadless, LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy) {
+		return browser + (isHeadless ? ":headless:" : ":") + launchProfile + ":" + pageLoadStrategy;
+	}
+
+}
@@ -0,0 +1,152 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Click strategies that worked for each Web Element locator and Page. A click goes straight to the strategy that last
+ * worked for its locator on the same Page, so that known off-screen Web Elements do not go through every failing
+ * strategy each time. Every few clicks (<code>verifico.click.reprobeEvery</code>, 10 by default) the native click is
+ * tried first again, so that a Web Element that is back in view gets a real click and its learned strategy is dropped.
+ * Only out-of-view and not interactable failures are learned; an overlapped Web Element is left to the Retry Policy.
+ * <p>
+ * Strategies are kept for the run. When the <code>verifico.click.history</code> System Property is set to a file
+ * path, strategies are loaded from that file and saved to it on JVM exit so that the next run starts warm.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumClickStrategies {
+
+	public enum ClickStrategy {
+		NATIVE, SCROLL_INTO_VIEW, ACTIONS, JAVASCRIPT
+	}
+
+	private static Logger log;
+	private static Map<String, ClickStrategy> strategies;
+	private static Map<String, Integer> learnedClicks;
+	private static int reprobeEvery;
+	private static SeleniumHistoryFile historyFile;
+
+	static {
+		log = LogManager.getLogger(SeleniumClickStrategies.class);
+		log.debug("Initializing SeleniumClickStrategies Class.");
+		strategies = new ConcurrentHashMap<String, ClickStrategy>();
+		learnedClicks = new ConcurrentHashMap<String, Integer>();
+		reprobeEvery = Math.max(1, Integer.getInteger("verifico.click.reprobeEvery", 10));
+		historyFile = SeleniumHistoryFile.fromProperty("verifico.click.history", "Click", SeleniumClickStrategies::save);
+		if (historyFile != null) {
+			load();
+		}
+		log.debug("Successfully initialized SeleniumClickStrategies Class.");
+	}
+
+	/**
+	 * Gets the click strategies in the order to try them: the strategy that last worked for the locator on the Page,
+	 * then the remaining strategies from the least to the most intrusive. Every few clicks of a learned locator the
+	 * native click is tried first again.
+	 *
+	 * @param pageUrl	URL of the Page. Query and fragment are ignored.
+	 * @param locator	Locator chain of the Web Element.
+	 * @return Click strategies in the order to try them
+	 */
+
+	static ClickStrategy[] getOrder(String pageUrl, String locator) {
+		String key = keyOf(pageUrl, locator);
+		ClickStrategy learned = strategies.get(key);
+		ClickStrategy[] order = ClickStrategy.values();
+		if (learned == null || learned == ClickStrategy.NATIVE) {
+			return order;
+		}
+		if (learnedClicks.merge(key, 1, Integer::sum) % reprobeEvery == 0) {
+			log.trace("Probing native click again for \"" + key + "\".");
+			return order;
+		}
+		ClickStrategy[] learnedOrder = new ClickStrategy[order.length];
+		learnedOrder[0] = learned;
+		int index = 1;
+		for (ClickStrategy strategy : order) {
+			if (strategy != learned) {
+				learnedOrder[index++] = strategy;
+			}
+		}
+		return learnedOrder;
+	}
+
+	/**
+	 * Records the click strategy that worked for a locator on a Page.
+	 *
+	 * @param pageUrl	URL of the Page. Query and fragment are ignored.
+	 * @param locator	Locator chain of the Web Element.
+	 * @param strategy	Click strategy that worked.
+	 */
+
+	static void record(String pageUrl, String locator, ClickStrategy strategy) {
+		String key = keyOf(pageUrl, locator);
+		if (strategy == ClickStrategy.NATIVE) {
+			learnedClicks.remove(key);
+			if (strategies.remove(key) != null) {
+				log.trace("Native click works again for \"" + key + "\".");
+			}
+		} else if (strategies.put(key, strategy) != strategy) {
+			log.trace("Learned " + String.valueOf(strategy) + " click for \"" + key + "\".");
+		}
+	}
+
+	/**
+	 * Removes all learned click strategies.
+	 */
+
+	public static void clear() {
+		strategies.clear();
+		learnedClicks.clear();
+	}
+
+	/**
+	 * Saves the learned click strategies to the file set by the <code>verifico.click.history</code> System Property.
+	 */
+
+	public static synchronized void save() {
+		if (historyFile == null) {
+			return;
+		}
+		Properties history = new Properties();
+		for (Map.Entry<String, ClickStrategy> entry : strategies.entrySet()) {
+			history.setProperty(entry.getKey(), entry.getValue().name());
+		}
+		historyFile.save(history);
+	}
+
+	private static void load() {
+		Properties history = historyFile.load();
+		if (history == null) {
+			return;
+		}
+		for (String key : history.stringPropertyNames()) {
+			try {
+				strategies.put(key, ClickStrategy.valueOf(history.getProperty(key).trim()));
+			} catch (IllegalArgumentException e) {
+				log.debug("Ignoring invalid Click history of \"" + key + "\".");
+			}
+		}
+		log.debug("Loaded Click history of " + strategies.size() + " locator(s) from \"" + historyFile + "\".");
+	}
+
+	private static String keyOf(String pageUrl, String locator) {
+		String page = pageUrl == null ? "" : pageUrl;
+		int end = page.length();
+		for (char separator : new char[] { '?', '#' }) {
+			int index = page.indexOf(separator);
+			if (index >= 0 && index < end) {
+				end = index;
+			}
+		}
+		return page.substring(0, end) + " " + locator;
+	}
+
+}
@@ -1,20 +1,28 @@
 package com.github.abagabagon.verifico.automation.web.selenium;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 
+import com.github.abagabagon.verifico.automation.web.selenium.SeleniumRetryPolicy.Decision;
+
 public class SeleniumCommands {
 
 	private Logger log;
 	private WebDriver driver;
 	private SeleniumWait seleniumWait;
+	private Throwable lastFailure;
+	private Decision retryDecision;
 	
 	enum BrowserAction {
 		OPEN_TAB, GO_TO, MAXIMIZE, DELETE_ALL_COOKIES, BACK, FORWARD, REFRESH, CLOSE_TAB, CLOSE_BROWSER
@@ -54,55 +62,167 @@ public class SeleniumCommands {
 		this.seleniumWait = seleniumWait;
 	}
 	
+	/**
+	 * Gets the index of the first Web Element of a List whose text or attribute value matches the search value.
+	 * 
+	 * @param valueAssertionAction	<code>TEXT</code> or <code>ATTRIBUTE</code> for an exact match, <code>PARTIAL_TEXT</code> or <code>PARTIAL_ATTRIBUTE</code> for a partial match.
+	 * @param locator				Object used to locate the List.
+	 * @param attribute				Attribute to check, <code>null</code> to check the text.
+	 * @param searchValue			Value to search for.
+	 * @return Index of the matching Web Element, <code>-1</code> if no Web Element matches, like <code>getTableRowIndex</code>.
+	 */
+	
 	protected int getListIndex(ValueAssertionAction valueAssertionAction, By locator, String attribute, String searchValue) {
 		List<WebElement> elements = this.seleniumWait.waitForListToBeVisible(locator);
-		int size = elements.size();
-		int index = 0;
-		boolean flgTextFound = false;
-		boolean status = false;
-		String retrievedValue = null;
-		for(int i = 0; i < size; i++) {
-			WebElement element = this.seleniumWait.waitForObjectToBeVisible(locator, i);
-			switch(valueAssertionAction) {
-			case TEXT:
-				retrievedValue = element.getText().trim();
-				status = retrievedValue.equals(searchValue);
-				break;
-			case PARTIAL_TEXT:
-				retrievedValue = element.getText().trim();
-				status = retrievedValue.contains(searchValue);
-				break;
-			case ATTRIBUTE:
-				retrievedValue = element.getAttribute(attribute).trim();
+		int index = this.getListIndex(valueAssertionAction, elements, locator.toString(), attribute, searchValue);
+		if (index < 0) {
+			this.log.error("I didn't see \"" + searchValue + "\" as the " + valueAssertionAction + " value of one of the Web Elements from the Web Element List: \"" + locator.toString() + "\".");
+		}
+		return index;
+	}
+	
+	/**
+	 * Gets the index of the first Web Element of an already located List whose text or attribute value matches the
+	 * search value. All values are retrieved in a single round trip.
+	 * 
+	 * @param valueAssertionAction	<code>TEXT</code> or <code>ATTRIBUTE</code> for an exact match, <code>PARTIAL_TEXT</code> or <code>PARTIAL_ATTRIBUTE</code> for a partial match.
+	 * @param elements				Web Elements of the List.
+	 * @param listName				Locator chain of the List, used for logging.
+	 * @param attribute				Attribute to check, <code>null</code> to check the text.
+	 * @param searchValue			Value to search for.
+	 * @return Index of the matching Web Element, <code>-1</code> if no Web Element matches.
+	 */
+	
+	protected int getListIndex(ValueAssertionAction valueAssertionAction, List<WebElement> elements, String listName, String attribute, String searchValue) {
+		List<String> retrievedValues = new ArrayList<String>();
+		switch(valueAssertionAction) {
+		case TEXT:
+		case PARTIAL_TEXT:
+			retrievedValues = this.getValues(elements, null);
+			break;
+		case ATTRIBUTE:
+		case PARTIAL_ATTRIBUTE:
+			retrievedValues = this.getValues(elements, attribute);
+			break;
+		default:
+			this.log.fatal("Unsupported Get Index Action.");
+		}
+		for(int i = 0; i < retrievedValues.size(); i++) {
+			String retrievedValue = retrievedValues.get(i);
+			if (retrievedValue == null) {
+				continue;
+			}
+			retrievedValue = retrievedValue.trim();
+			boolean status = false;
+			if (valueAssertionAction == ValueAssertionAction.TEXT || valueAssertionAction == ValueAssertionAction.ATTRIBUTE) {
 				status = retrievedValue.equals(searchValue);
-				break;
-			case PARTIAL_ATTRIBUTE:
-				retrievedValue = element.getAttribute(attribute).trim();
+			} else {
 				status = retrievedValue.contains(searchValue);
-				break;
-			default:
-				this.log.fatal("Unsupported Get Index Action.");
 			}
 			if (status) {
-				flgTextFound = true;
-				index = i;
-				this.log.debug("I saw \"" + searchValue + "\" " + valueAssertionAction + " value at index " + index + " from the Web Element List: \"" + locator.toString() + "\".");
-				break;
+				this.log.debug("I saw \"" + searchValue + "\" " + valueAssertionAction + " value at index " + i + " from the Web Element List: \"" + listName + "\".");
+				return i;
 			}
 		}
-		if (!flgTextFound) {
-			index = 999999;
-			this.log.error("I didn't see \"" + searchValue + "\" as the " + valueAssertionAction + " value of one of the Web Elements from the Web Element List: \"" + locator.toString() + "\".");
+		return -1;
+	}
+	
+	/**
+	 * Gets the index of the first Row whose Child Web Element has a text or attribute value containing the value to
+	 * check. All Rows are resolved and checked by a single script in the Page. Rows or Child Web Elements located by
+	 * locator types the script cannot resolve are checked one Row at a time.
+	 * 
+	 * @param scope				Web Element the Rows are located in, <code>null</code> to locate the Rows in the whole Page.
+	 * @param rowObjectList		Object used to locate the Rows.
+	 * @param rowObjectToCheck	Object relative to the Row Object from which to check the value.
+	 * @param attribute			Attribute to check, <code>null</code> to check the text.
+	 * @param valueToCheck		Value to check at the specified object to check value.
+	 * @return Index of the matching Row, <code>-1</code> if no Row matches.
+	 */
+	
+	protected int getTableRowIndex(WebElement scope, By rowObjectList, By rowObjectToCheck, String attribute, String valueToCheck) {
+		String[] rowLocator = SeleniumQuiescence.toScriptLocator(rowObjectList);
+		String[] childLocator = SeleniumQuiescence.toScriptLocator(rowObjectToCheck);
+		int index = -1;
+		try {
+			if (rowLocator != null && childLocator != null) {
+				Object result = ((JavascriptExecutor) this.driver).executeScript(SeleniumTableQuery.ROW_INDEX_SCRIPT, scope, rowLocator[0], rowLocator[1], childLocator[0], childLocator[1], attribute, valueToCheck);
+				index = result instanceof Number ? ((Number) result).intValue() : -1;
+			} else {
+				List<WebElement> rows = scope == null ? this.driver.findElements(rowObjectList) : scope.findElements(rowObjectList);
+				for(int i = 0; i < rows.size(); i++) {
+					List<WebElement> children = rows.get(i).findElements(rowObjectToCheck);
+					if (children.isEmpty()) {
+						continue;
+					}
+					String value = attribute == null ? children.get(0).getText() : children.get(0).getAttribute(attribute);
+					if (value != null && value.trim().contains(valueToCheck)) {
+						index = i;
+						break;
+					}
+				}
+			}
+		} catch (WebDriverException e) {
+			this.recordFailure(e);
+			this.log.debug("Encountered Exception while looking for Row of Web Element: \"" + rowObjectList.toString() + "\".");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
+		this.log.trace("Row index of \"" + valueToCheck + "\" from the Rows of Web Element: \"" + rowObjectList.toString() + "\" is " + index + ".");
 		return index;
 	}
 	
+	/**
+	 * Gets the index of the first Row whose Child Web Element has a text or attribute value containing the value to
+	 * check, within a Web Element of a Parent List. The Parent Web Element is located again on every call, so that a
+	 * retry does not look for the Rows in a stale Parent.
+	 * 
+	 * @param parentList		Object used to locate the Parent List.
+	 * @param parentIndex		Index of the Parent Web Element the Rows are located in.
+	 * @param rowObjectList		Object used to locate the Rows.
+	 * @param rowObjectToCheck	Object relative to the Row Object from which to check the value.
+	 * @param attribute			Attribute to check, <code>null</code> to check the text.
+	 * @param valueToCheck		Value to check at the specified object to check value.
+	 * @return Index of the matching Row, <code>-1</code> if the Parent Web Element is not found or no Row matches.
+	 */
+	
+	protected int getTableRowIndex(By parentList, int parentIndex, By rowObjectList, By rowObjectToCheck, String attribute, String valueToCheck) {
+		List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
+		if (parentElementList == null || parentElementList.size() <= parentIndex) {
+			this.log.trace("Parent Web Element at index " + parentIndex + " of \"" + parentList.toString() + "\" is not found.");
+			return -1;
+		}
+		WebElement scope = parentElementList.get(parentIndex);
+		this.seleniumWait.waitForNestedObjectsToBeVisible(scope, rowObjectList);
+		return this.getTableRowIndex(scope, rowObjectList, rowObjectToCheck, attribute, valueToCheck);
+	}
+	
+	/**
+	 * Gets the texts or attribute values of the Web Elements in a single round trip. Texts are the visible innerText
+	 * of each Web Element without any leading or trailing whitespace.
+	 * 
+	 * @param elements	Web Elements to get the values from.
+	 * @param attribute	Attribute to get, <code>null</code> to get the text.
+	 * @return Values in the order of the Web Elements, <code>null</code> for Web Elements without the attribute.
+	 */
+	
+	protected List<String> getValues(List<WebElement> elements, String attribute) {
+		List<String> values = new ArrayList<String>();
+		if (elements == null || elements.isEmpty()) {
+			return values;
+		}
+		Object result = ((JavascriptExecutor) this.driver).executeScript(SeleniumTableQuery.VALUES_SCRIPT, elements, attribute);
+		if (result instanceof List) {
+			for (Object value : (List<?>) result) {
+				values.add(value == null ? null : String.valueOf(value));
+			}
+		}
+		return values;
+	}
+	
 	protected int count(By locator) {
 		this.seleniumWait.waitForPage();
-		this.driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(2));
 		List<WebElement> element = this.driver.findElements(locator);
 		int size = element.size();
-		this.driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
 		return size;
 	}
 	
@@ -119,16 +239,123 @@ public class SeleniumCommands {
 		return status;
 	}
 	
-	protected void wait(int duration) {
-		try {
-			Thread.sleep(duration * 1000);
-		} catch (IllegalArgumentException e) {
-			this.log.error("Encountered IllegalArgumentException while waiting for " + duration + ".");
-		} catch (InterruptedException e) {
-			this.log.error("Encountered InterruptedException while waiting for " + duration + ".");
-		} catch (Exception e) {
-			this.log.error("Encountered Exception while waiting for " + duration + ".");
-			this.log.debug(ExceptionUtils.getStackTrace(e));
+	/**
+	 * Starts a step of a User Action. The failure recorded by an earlier User Action is discarded, so that it is not
+	 * classified again by the Retry Policy.
+	 * 
+	 * @return Deadline of the running step.
+	 */
+	
+	protected SeleniumDeadline beginStep() {
+		this.lastFailure = null;
+		return this.seleniumWait.beginStep();
+	}
+	
+	/**
+	 * Ends a step started by <code>beginStep()</code>.
+	 */
+	
+	protected void endStep() {
+		this.seleniumWait.endStep();
+	}
+	
+	/**
+	 * Records the exception of a failed User Action attempt, to be classified by the Retry Policy before the next
+	 * attempt.
+	 * 
+	 * @param e Exception of the failed attempt.
+	 */
+	
+	protected void recordFailure(Throwable e) {
+		this.lastFailure = e;
+	}
+	
+	/**
+	 * Runs the attempts of a User Action until one succeeds. Each failed attempt is retried as decided by the Retry
+	 * Policy from the failure recorded through <code>recordFailure</code>: right away for a stale Web Element, after
+	 * the jittered backoff for other failures, and not at all for failures that will not recover. The Retry Policy also
+	 * limits how many attempts may fail with an exception, while attempts that failed without one are retried until
+	 * the step deadline passes.
+	 * 
+	 * @param deadline	Deadline of the running step.
+	 * @param failure	Message logged when the User Action fails.
+	 * @param attempt	Attempt of the User Action, returning <code>true</code> if it succeeded.
+	 * @return <code>true</code> if an attempt succeeded.
+	 */
+	
+	protected boolean retry(SeleniumDeadline deadline, String failure, BooleanSupplier attempt) {
+		for(int i = 1; ; i++) {
+			if (attempt.getAsBoolean()) {
+				return true;
+			}
+			if (!this.isRetryable(deadline, i)) {
+				this.log.error(failure);
+				return false;
+			}
+			this.log.debug(failure + " Retrying after attempt " + i + ".");
+			this.waitBeforeRetry(deadline, i);
+		}
+	}
+	
+	/**
+	 * Runs the attempts of a lookup until one finds an index, retried like <code>retry</code>.
+	 * 
+	 * @param deadline	Deadline of the running step.
+	 * @param failure	Message logged when nothing is found.
+	 * @param attempt	Attempt of the lookup, returning the index found or <code>-1</code>.
+	 * @return Index found, <code>-1</code> if nothing was found before the attempts ran out.
+	 */
+	
+	protected int retryForIndex(SeleniumDeadline deadline, String failure, IntSupplier attempt) {
+		int[] index = { -1 };
+		this.retry(deadline, failure, () -> (index[0] = attempt.getAsInt()) >= 0);
+		return index[0];
+	}
+	
+	private boolean isRetryable(SeleniumDeadline deadline, int attempt) {
+		SeleniumRetryPolicy retryPolicy = this.seleniumWait.getRetryPolicy();
+		this.retryDecision = retryPolicy.classify(this.lastFailure);
+		boolean isRetryable = true;
+		if (this.retryDecision == Decision.FAIL_FAST) {
+			String failure = this.lastFailure != null ? this.lastFailure.getClass().getSimpleName() : "The failure";
+			this.log.debug("Not retrying User Action. " + failure + " will not recover by retrying.");
+			SeleniumRetryMetrics.record(Decision.FAIL_FAST, this.lastFailure, 0);
+			isRetryable = false;
+		} else if (!retryPolicy.isAttemptAllowed(this.lastFailure, attempt)) {
+			this.log.debug("Not retrying User Action. It failed " + attempt + " time(s).");
+			isRetryable = false;
+		} else if (deadline.isExpired()) {
+			isRetryable = false;
+		}
+		if (!isRetryable) {
+			this.lastFailure = null;
+		}
+		return isRetryable;
+	}
+	
+	/**
+	 * Waits before retrying a User Action as decided by <code>isRetryable</code>: not at all for
+	 * <code>RETRY_NOW</code>, otherwise for the jittered exponential backoff of the Retry Policy, or less if the step
+	 * deadline is about to pass.
+	 * 
+	 * @param deadline	Deadline of the running step.
+	 * @param attempt	Number of the failed attempt, starting at 1.
+	 */
+	
+	private void waitBeforeRetry(SeleniumDeadline deadline, int attempt) {
+		long millis = 0;
+		if (this.retryDecision != Decision.RETRY_NOW) {
+			millis = Math.min(this.seleniumWait.getRetryPolicy().getBackoffMillis(attempt), deadline.getRemaining().toMillis());
+		}
+		SeleniumRetryMetrics.record(this.retryDecision, this.lastFailure, millis);
+		this.lastFailure = null;
+		if (millis > 0) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				this.log.error("Encountered InterruptedException while waiting to retry.");
+			}
 		}
 	}
 	
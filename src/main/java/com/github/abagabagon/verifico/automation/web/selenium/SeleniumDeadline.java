@@ -0,0 +1,36 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.time.Duration;
+
+/**
+ * Deadline of a single Web Automation step. All retries and nested waits of the step share the remaining time of
+ * the deadline, so that a failing step fails within its <code>STEP</code> Timeout budget.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumDeadline {
+
+	private final long expiresAt;
+
+	SeleniumDeadline(Duration budget) {
+		this.expiresAt = System.nanoTime() + budget.toNanos();
+	}
+
+	/**
+	 * Gets the remaining time of the step.
+	 *
+	 * @return Remaining time, zero if the deadline has passed.
+	 */
+
+	Duration getRemaining() {
+		long remaining = this.expiresAt - System.nanoTime();
+		return remaining > 0 ? Duration.ofNanos(remaining) : Duration.ZERO;
+	}
+
+	boolean isExpired() {
+		return this.expiresAt - System.nanoTime() <= 0;
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+/**
+ * Chrome DevTools Protocol commands sent to Chromium Browser sessions. Local Chrome and Edge sessions send them
+ * through the Web Driver, while sessions that only expose <code>HasDevTools</code> send them over a DevTools
+ * connection.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumDevTools {
+
+	private static final Function<JsonInput, Map<String, Object>> TO_MAP = input -> input.read(Json.MAP_TYPE);
+
+	/**
+	 * Checks if the Browser session is a Chromium Browser that accepts Chrome DevTools Protocol commands.
+	 *
+	 * @param driver Web Driver of the Browser session.
+	 * @return <code>true</code> if Chrome DevTools Protocol commands can be sent to the session.
+	 */
+
+	static boolean isAvailable(WebDriver driver) {
+		if (!(driver instanceof ChromiumDriver) && !(driver instanceof HasDevTools)) {
+			return false;
+		}
+		if (!(driver instanceof HasCapabilities)) {
+			return false;
+		}
+		Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+		String browserName = capabilities != null ? capabilities.getBrowserName() : null;
+		return "chrome".equalsIgnoreCase(browserName) || "msedge".equalsIgnoreCase(browserName) || "MicrosoftEdge".equalsIgnoreCase(browserName);
+	}
+
+	/**
+	 * Sends a Chrome DevTools Protocol command to the current Browser tab.
+	 *
+	 * @param driver	Web Driver of the Browser session.
+	 * @param method	Chrome DevTools Protocol method, e.g. <code>Network.clearBrowserCookies</code>.
+	 * @param params	Parameters of the command.
+	 * @return Result of the command, <code>null</code> if the session does not accept Chrome DevTools Protocol commands.
+	 */
+
+	static Map<String, Object> send(WebDriver driver, String method, Map<String, Object> params) {
+		if (!isAvailable(driver)) {
+			return null;
+		}
+		if (driver instanceof ChromiumDriver) {
+			return ((ChromiumDriver) driver).executeCdpCommand(method, params);
+		}
+		DevTools devTools = ((HasDevTools) driver).getDevTools();
+		devTools.createSessionIfThereIsNotOne();
+		return devTools.send(new Command<Map<String, Object>>(method, params, TO_MAP));
+	}
+
+}
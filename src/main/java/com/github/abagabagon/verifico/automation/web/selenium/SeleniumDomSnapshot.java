@@ -0,0 +1,243 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+
+import org.jsoup.Jsoup;
+import org.jsoup.helper.W3CDom;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.parser.Parser;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Selector.SelectorParseException;
+import org.openqa.selenium.By;
+import org.w3c.dom.NodeList;
+
+/**
+ * Parsed copy of the Document, or of a container Web Element, captured by a single script. The capture marks the Web
+ * Elements that are not displayed and copies the current value, checked and selected states of form fields into the
+ * markup, so that texts, attribute values and counts can be read in the JVM without touching the Browser again.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumDomSnapshot {
+
+	static final String HIDDEN_ATTRIBUTE = "data-verifico-hidden";
+
+	static final String CAPTURE_SCRIPT = "var root = arguments[0] || document.documentElement, clone = root.cloneNode(true);"
+			+ "var originals = [root].concat(Array.prototype.slice.call(root.getElementsByTagName('*'))),"
+			+ "  clones = [clone].concat(Array.prototype.slice.call(clone.getElementsByTagName('*')));"
+			+ "for (var i = 0; i < originals.length && i < clones.length; i++) {"
+			+ "  var original = originals[i], copy = clones[i], tag = original.tagName.toLowerCase();"
+			+ "  try {"
+			+ "    if (original.getClientRects().length === 0 || window.getComputedStyle(original).visibility === 'hidden') { copy.setAttribute('" + HIDDEN_ATTRIBUTE + "', ''); }"
+			+ "    if (tag === 'input') { copy.setAttribute('value', original.value); if (original.checked) { copy.setAttribute('checked', ''); } else { copy.removeAttribute('checked'); } }"
+			+ "    if (tag === 'textarea') { copy.textContent = original.value; }"
+			+ "    if (tag === 'option') { if (original.selected) { copy.setAttribute('selected', ''); } else { copy.removeAttribute('selected'); } }"
+			+ "  } catch (e) {}"
+			+ "}"
+			+ "return [clone.outerHTML, root.parentElement ? root.parentElement.tagName.toLowerCase() : null];";
+
+	private static final String[] BOOLEAN_ATTRIBUTES = { "checked", "selected", "disabled", "readonly", "required", "multiple", "hidden" };
+
+	private Document document;
+	private org.w3c.dom.Document w3cDocument;
+	private XPath xpath;
+	private String description;
+	private long navigationEpoch;
+
+	/**
+	 * Parses the markup returned by <code>CAPTURE_SCRIPT</code>.
+	 *
+	 * @param html				Outer HTML of the captured Web Element.
+	 * @param parentTag			Tag of the parent of the captured Web Element, <code>null</code> for the whole Document.
+	 * @param description		Description of what was captured.
+	 * @param navigationEpoch	Navigation Epoch the Snapshot was captured in.
+	 */
+
+	SeleniumDomSnapshot(String html, String parentTag, String description, long navigationEpoch) {
+		if (parentTag == null) {
+			this.document = Jsoup.parse(html);
+		} else {
+			this.document = Document.createShell("");
+			Element context = new Element(parentTag);
+			for (Node node : new ArrayList<Node>(Parser.parseFragment(html, context, ""))) {
+				this.document.body().appendChild(node);
+			}
+		}
+		this.document.select("[xmlns]").removeAttr("xmlns");
+		this.description = description;
+		this.navigationEpoch = navigationEpoch;
+	}
+
+	/**
+	 * Finds the Web Elements of the Snapshot matching the locator. Supports id, name, class name, tag name, CSS
+	 * selector and XPath locators.
+	 *
+	 * @param locator Object used to locate Web Elements in the Snapshot.
+	 * @return Matching Web Elements, in Document order.
+	 * @throws IllegalArgumentException if the locator type is not supported or its value is invalid.
+	 */
+
+	List<Element> find(By locator) {
+		String[] scriptLocator = SeleniumQuiescence.toScriptLocator(locator);
+		if (scriptLocator == null) {
+			throw new IllegalArgumentException("Unsupported locator for Snapshot: \"" + locator.toString() + "\".");
+		}
+		String value = scriptLocator[1];
+		try {
+			switch (scriptLocator[0]) {
+			case "id":
+				return this.document.getElementsByAttributeValue("id", value);
+			case "name":
+				return this.document.getElementsByAttributeValue("name", value);
+			case "className":
+				return this.document.getElementsByClass(value);
+			case "tagName":
+				return this.document.getElementsByTag(value);
+			case "cssSelector":
+				return this.document.select(value);
+			case "xpath":
+				return this.evaluate(value);
+			default:
+				return Collections.emptyList();
+			}
+		} catch (SelectorParseException | XPathExpressionException e) {
+			throw new IllegalArgumentException("Invalid locator for Snapshot: \"" + locator.toString() + "\".", e);
+		}
+	}
+
+	private List<Element> evaluate(String expression) throws XPathExpressionException {
+		if (this.w3cDocument == null) {
+			this.w3cDocument = new W3CDom().fromJsoup(this.document);
+			this.xpath = XPathFactory.newInstance().newXPath();
+		}
+		NodeList nodes = (NodeList) this.xpath.evaluate(expression, this.w3cDocument, XPathConstants.NODESET);
+		List<Element> elements = new Elements();
+		for (int i = 0; i < nodes.getLength(); i++) {
+			if (nodes.item(i) instanceof org.w3c.dom.Element) {
+				elements.add(this.toElement((org.w3c.dom.Element) nodes.item(i)));
+			}
+		}
+		return elements;
+	}
+
+	private Element toElement(org.w3c.dom.Element w3cElement) {
+		List<Integer> path = new ArrayList<Integer>();
+		org.w3c.dom.Node node = w3cElement;
+		while (node instanceof org.w3c.dom.Element) {
+			int index = 0;
+			for (org.w3c.dom.Node sibling = node.getPreviousSibling(); sibling != null; sibling = sibling.getPreviousSibling()) {
+				if (sibling instanceof org.w3c.dom.Element) {
+					index++;
+				}
+			}
+			path.add(0, index);
+			node = node.getParentNode();
+		}
+		Element element = this.document;
+		for (int index : path) {
+			element = element.child(index);
+		}
+		return element;
+	}
+
+	/**
+	 * Gets the text of the Web Element the way the Browser renders it: text of Web Elements that are not displayed is
+	 * left out, and whitespace is collapsed.
+	 *
+	 * @param element Web Element of the Snapshot.
+	 * @return Text of the Web Element, empty if it is not displayed.
+	 */
+
+	String getText(Element element) {
+		if (!this.isDisplayed(element)) {
+			return "";
+		}
+		StringBuilder text = new StringBuilder();
+		this.appendText(element, text);
+		return text.toString().replaceAll("[\\s\\u00a0]+", " ").trim();
+	}
+
+	private void appendText(Element element, StringBuilder text) {
+		for (Node child : element.childNodes()) {
+			if (child instanceof TextNode) {
+				text.append(((TextNode) child).getWholeText());
+			} else if (child instanceof Element) {
+				Element childElement = (Element) child;
+				if (childElement.hasAttr(HIDDEN_ATTRIBUTE)) {
+					continue;
+				}
+				boolean isBlock = childElement.isBlock() || childElement.tagName().equals("br");
+				if (isBlock) {
+					text.append(' ');
+				}
+				this.appendText(childElement, text);
+				if (isBlock) {
+					text.append(' ');
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the attribute value of the Web Element. Boolean attributes are returned as <code>"true"</code> when present,
+	 * like <code>WebElement.getAttribute</code>.
+	 *
+	 * @param element	Web Element of the Snapshot.
+	 * @param attribute	Attribute to get.
+	 * @return Attribute value, <code>null</code> if the Web Element has no such attribute.
+	 */
+
+	String getAttribute(Element element, String attribute) {
+		if (!element.hasAttr(attribute)) {
+			return null;
+		}
+		for (String booleanAttribute : BOOLEAN_ATTRIBUTES) {
+			if (booleanAttribute.equalsIgnoreCase(attribute)) {
+				return "true";
+			}
+		}
+		return element.attr(attribute);
+	}
+
+	/**
+	 * Gets the text of the selected option of a Drop-down Menu Web Element in lower case, like the live Drop-down
+	 * Menu commands.
+	 *
+	 * @param element Drop-down Menu Web Element of the Snapshot.
+	 * @return Lower case text of the selected option, <code>null</code> if none is selected.
+	 */
+
+	String getSelectedOption(Element element) {
+		Element option = element.selectFirst("option[selected]");
+		if (option == null) {
+			option = element.selectFirst("option");
+		}
+		return option != null ? option.text().trim().toLowerCase() : null;
+	}
+
+	boolean isDisplayed(Element element) {
+		return !element.hasAttr(HIDDEN_ATTRIBUTE);
+	}
+
+	long getNavigationEpoch() {
+		return this.navigationEpoch;
+	}
+
+	@Override
+	public String toString() {
+		return this.description + " (" + this.document.getAllElements().size() + " Web Elements)";
+	}
+
+}
@@ -0,0 +1,243 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.Properties;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.abagabagon.verifico.enums.Browser;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+
+/**
+ * Cache of resolved Web Driver binaries. Driver binaries are resolved through WebDriverManager once and the
+ * resolved binary path, driver version and browser version are kept in a local cache file so that succeeding
+ * launches, including those of succeeding runs, skip resolution and work without network access.
+ * <p>
+ * The cache file defaults to <code>~/.verifico/driver-cache.properties</code> and can be changed through the
+ * <code>verifico.driver.cache</code> System Property.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumDriverCache {
+
+	private static Logger log;
+	private static File cacheFile;
+	private static Properties cache;
+	private static EnumSet<Browser> resolved;
+
+	static {
+		log = LogManager.getLogger(SeleniumDriverCache.class);
+		log.debug("Initializing SeleniumDriverCache Class.");
+		String cachePath = System.getProperty("verifico.driver.cache", System.getProperty("user.home") + File.separator + ".verifico" + File.separator + "driver-cache.properties");
+		cacheFile = new File(cachePath);
+		cache = new Properties();
+		resolved = EnumSet.noneOf(Browser.class);
+		load();
+		log.debug("Successfully initialized SeleniumDriverCache Class.");
+	}
+
+	/**
+	 * Resolves the Web Driver binary of the Browser. Resolution happens at most once per JVM, and only when
+	 * no valid binary is recorded in the cache file.
+	 *
+	 * @param browser Browser whose Web Driver binary will be resolved.
+	 */
+
+	static synchronized void resolve(Browser browser) {
+		String property = getDriverProperty(browser);
+		if (property == null || resolved.contains(browser)) {
+			return;
+		}
+		String path = cache.getProperty(key(browser, "path"));
+		if (path != null && new File(path).canExecute()) {
+			log.trace("Using cached " + browser + " Web Driver binary: \"" + path + "\".");
+			System.setProperty(property, path);
+		} else {
+			setup(browser, property);
+		}
+		resolved.add(browser);
+	}
+
+	/**
+	 * Records the version of the Browser launched with the cached Web Driver binary.
+	 *
+	 * @param browser			Launched Browser.
+	 * @param browserVersion	Version reported by the Browser session.
+	 */
+
+	static synchronized void recordBrowserVersion(Browser browser, String browserVersion) {
+		if (browserVersion == null || browserVersion.equals(cache.getProperty(key(browser, "browserVersion")))) {
+			return;
+		}
+		cache.setProperty(key(browser, "browserVersion"), browserVersion);
+		store();
+	}
+
+	/**
+	 * Checks if the Web Driver binary of the Browser was taken from the cache file.
+	 *
+	 * @param browser Browser to check.
+	 * @return <code>true</code> if Web Driver binary of the Browser is cached.
+	 */
+
+	static synchronized boolean isCached(Browser browser) {
+		return cache.getProperty(key(browser, "path")) != null;
+	}
+
+	/**
+	 * Removes the cached Web Driver binary of the Browser. The next launch will resolve the binary again.
+	 *
+	 * @param browser Browser whose cached Web Driver binary will be removed.
+	 */
+
+	public static synchronized void invalidate(Browser browser) {
+		log.debug("Invalidating cached " + browser + " Web Driver binary.");
+		cache.remove(key(browser, "path"));
+		cache.remove(key(browser, "driverVersion"));
+		cache.remove(key(browser, "browserVersion"));
+		resolved.remove(browser);
+		store();
+	}
+
+	/**
+	 * Removes all cached Web Driver binaries.
+	 */
+
+	public static synchronized void invalidateAll() {
+		log.debug("Invalidating all cached Web Driver binaries.");
+		cache.clear();
+		resolved.clear();
+		store();
+	}
+
+	/**
+	 * Resolves the Web Driver binary of the Browser again and updates the cache file. Used when the installed
+	 * Browser has changed.
+	 *
+	 * @param browser Browser whose Web Driver binary will be resolved again.
+	 */
+
+	public static synchronized void refresh(Browser browser) {
+		invalidate(browser);
+		resolve(browser);
+	}
+
+	/**
+	 * Gets the cached Web Driver binary path of the Browser.
+	 *
+	 * @param browser Browser of the Web Driver binary.
+	 * @return Cached binary path, <code>null</code> if not cached.
+	 */
+
+	public static synchronized String getDriverPath(Browser browser) {
+		return cache.getProperty(key(browser, "path"));
+	}
+
+	/**
+	 * Gets the Browser version recorded for the cached Web Driver binary.
+	 *
+	 * @param browser Browser of the Web Driver binary.
+	 * @return Recorded Browser version, <code>null</code> if not recorded.
+	 */
+
+	public static synchronized String getBrowserVersion(Browser browser) {
+		return cache.getProperty(key(browser, "browserVersion"));
+	}
+
+	private static void setup(Browser browser, String property) {
+		log.debug("Resolving " + browser + " Web Driver binary.");
+		WebDriverManager manager;
+		switch (browser) {
+		case CHROME:
+			manager = WebDriverManager.chromedriver();
+			break;
+		case FIREFOX:
+			manager = WebDriverManager.firefoxdriver();
+			break;
+		case EDGE:
+			manager = WebDriverManager.edgedriver();
+			break;
+		case IE:
+			manager = WebDriverManager.iedriver();
+			break;
+		default:
+			return;
+		}
+		manager.setup();
+		String path = manager.getDownloadedDriverPath();
+		if (path == null) {
+			path = System.getProperty(property);
+		}
+		if (path != null) {
+			cache.setProperty(key(browser, "path"), path);
+			if (manager.getDownloadedDriverVersion() != null) {
+				cache.setProperty(key(browser, "driverVersion"), manager.getDownloadedDriverVersion());
+			}
+			store();
+			log.debug("Resolved " + browser + " Web Driver binary: \"" + path + "\".");
+		}
+	}
+
+	private static String getDriverProperty(Browser browser) {
+		switch (browser) {
+		case CHROME:
+			return "webdriver.chrome.driver";
+		case FIREFOX:
+			return "webdriver.gecko.driver";
+		case EDGE:
+			return "webdriver.edge.driver";
+		case IE:
+			return "webdriver.ie.driver";
+		default:
+			return null;
+		}
+	}
+
+	private static String key(Browser browser, String name) {
+		return browser.name().toLowerCase() + "." + name;
+	}
+
+	private static void load() {
+		if (!cacheFile.isFile()) {
+			return;
+		}
+		try (InputStream input = new FileInputStream(cacheFile)) {
+			cache.load(input);
+		} catch (IOException e) {
+			log.warn("Unable to read Web Driver cache file: \"" + cacheFile + "\".");
+			log.debug(ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private static void store() {
+		File directory = cacheFile.getAbsoluteFile().getParentFile();
+		if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+			log.warn("Unable to create Web Driver cache directory: \"" + directory + "\".");
+			return;
+		}
+		File temporaryFile = new File(cacheFile.getPath() + ".tmp");
+		try (OutputStream output = new FileOutputStream(temporaryFile)) {
+			cache.store(output, "Verifico Web Driver Cache");
+		} catch (IOException e) {
+			log.warn("Unable to write Web Driver cache file: \"" + cacheFile + "\".");
+			log.debug(ExceptionUtils.getStackTrace(e));
+			return;
+		}
+		if (!temporaryFile.renameTo(cacheFile)) {
+			cacheFile.delete();
+			temporaryFile.renameTo(cacheFile);
+		}
+	}
+
+}
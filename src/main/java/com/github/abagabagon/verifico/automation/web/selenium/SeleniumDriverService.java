@@ -0,0 +1,230 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverService;
+
+import com.github.abagabagon.verifico.enums.Browser;
+
+/**
+ * Long-lived Web Driver Services shared by Browser sessions. When enabled, one ChromeDriver and one EdgeDriver
+ * server is started per JVM and every session connects to it through <code>RemoteWebDriver</code> instead of
+ * starting its own server process. GeckoDriver only serves one session at a time, so GeckoDriver servers are
+ * kept running and reused by succeeding sessions instead. All servers are stopped on JVM exit.
+ * <p>
+ * Shared mode can also be enabled through the <code>verifico.driver.service.shared</code> System Property.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumDriverService {
+
+	private static Logger log;
+	private static volatile boolean isShared;
+	private static Map<Browser, DriverService> sharedServices;
+	private static ConcurrentLinkedQueue<DriverService> idleGeckoServices;
+	private static List<DriverService> startedServices;
+	private static boolean isShutdownHookAdded;
+
+	static {
+		log = LogManager.getLogger(SeleniumDriverService.class);
+		log.debug("Initializing SeleniumDriverService Class.");
+		isShared = Boolean.getBoolean("verifico.driver.service.shared");
+		sharedServices = new EnumMap<Browser, DriverService>(Browser.class);
+		idleGeckoServices = new ConcurrentLinkedQueue<DriverService>();
+		startedServices = new ArrayList<DriverService>();
+		isShutdownHookAdded = false;
+		log.debug("Successfully initialized SeleniumDriverService Class.");
+	}
+
+	/**
+	 * Enables or disables shared Web Driver Services for succeeding Browser launches.
+	 *
+	 * @param shared	<code>true</code> if Browser sessions will share Web Driver Services.
+	 * 					<code>false</code> if each Browser session will start its own Web Driver Service.
+	 */
+
+	public static void setShared(boolean shared) {
+		isShared = shared;
+	}
+
+	/**
+	 * Checks if Browser sessions share Web Driver Services.
+	 *
+	 * @return <code>true</code> if Browser sessions share Web Driver Services.
+	 */
+
+	public static boolean isShared() {
+		return isShared;
+	}
+
+	/**
+	 * Stops all started Web Driver Services. Sessions still connected to them will no longer respond.
+	 */
+
+	public static synchronized void stopAll() {
+		log.debug("Stopping all Web Driver Services.");
+		for (DriverService service : startedServices) {
+			stopService(service);
+		}
+		startedServices.clear();
+		sharedServices.clear();
+		idleGeckoServices.clear();
+	}
+
+	/**
+	 * Stops the Web Driver Services of the Browser so that the next launch starts them with the current Web Driver binary.
+	 *
+	 * @param browser Browser whose Web Driver Services will be stopped.
+	 */
+
+	static synchronized void stop(Browser browser) {
+		DriverService service = sharedServices.remove(browser);
+		if (service != null) {
+			startedServices.remove(service);
+			stopService(service);
+		}
+		if (browser == Browser.FIREFOX) {
+			Iterator<DriverService> iterator = idleGeckoServices.iterator();
+			while (iterator.hasNext()) {
+				DriverService geckoService = iterator.next();
+				iterator.remove();
+				startedServices.remove(geckoService);
+				stopService(geckoService);
+			}
+		}
+	}
+
+	/**
+	 * Starts a Browser session on a shared Web Driver Service.
+	 *
+	 * @param browser Browser of the session.
+	 * @param options Browser Options of the session.
+	 * @return Web Driver connected to the shared Web Driver Service.
+	 */
+
+	static WebDriver newRemoteWebDriver(Browser browser, Capabilities options) {
+		switch (browser) {
+		case CHROME:
+		case EDGE:
+			return withDevTools(new RemoteWebDriver(getSharedService(browser).getUrl(), options));
+		case FIREFOX:
+			return newGeckoWebDriver(options);
+		default:
+			throw new WebDriverException("Shared Web Driver Service is unsupported for " + browser + ".");
+		}
+	}
+
+	/**
+	 * Augments a session of a shared Chromium Web Driver Service with the DevTools interface when the service reports
+	 * a Chrome DevTools Protocol endpoint. Without it, the network monitor, lifecycle waits and DevTools based session
+	 * resets are not available to the session.
+	 *
+	 * @param driver Web Driver connected to the shared Web Driver Service.
+	 * @return Augmented Web Driver, or the given Web Driver if it cannot be augmented.
+	 */
+
+	private static WebDriver withDevTools(WebDriver driver) {
+		try {
+			WebDriver augmented = new Augmenter().augment(driver);
+			if (augmented instanceof HasDevTools) {
+				return augmented;
+			}
+		} catch (RuntimeException e) {
+			log.debug(ExceptionUtils.getStackTrace(e));
+		}
+		log.warn("Shared Web Driver Service session does not expose the Chrome DevTools Protocol. Network and Page lifecycle waits fall back to polling.");
+		return driver;
+	}
+
+	private static synchronized DriverService getSharedService(Browser browser) {
+		DriverService service = sharedServices.get(browser);
+		if (service == null || !service.isRunning()) {
+			if (service != null) {
+				startedServices.remove(service);
+			}
+			service = browser == Browser.CHROME ? ChromeDriverService.createDefaultService() : EdgeDriverService.createDefaultService();
+			startService(browser, service);
+			sharedServices.put(browser, service);
+		}
+		return service;
+	}
+
+	private static WebDriver newGeckoWebDriver(Capabilities options) {
+		DriverService service;
+		while ((service = idleGeckoServices.poll()) != null && !service.isRunning()) {
+			discardService(service);
+		}
+		if (service == null) {
+			synchronized (SeleniumDriverService.class) {
+				service = GeckoDriverService.createDefaultService();
+				startService(Browser.FIREFOX, service);
+			}
+		}
+		final DriverService geckoService = service;
+		try {
+			return new RemoteWebDriver(geckoService.getUrl(), options) {
+				@Override
+				public void quit() {
+					try {
+						super.quit();
+					} finally {
+						idleGeckoServices.offer(geckoService);
+					}
+				}
+			};
+		} catch (RuntimeException e) {
+			idleGeckoServices.offer(geckoService);
+			throw e;
+		}
+	}
+
+	private static void startService(Browser browser, DriverService service) {
+		log.debug("Starting shared " + browser + " Web Driver Service.");
+		try {
+			service.start();
+		} catch (IOException e) {
+			throw new WebDriverException("Unable to start shared " + browser + " Web Driver Service.", e);
+		}
+		startedServices.add(service);
+		if (!isShutdownHookAdded) {
+			Runtime.getRuntime().addShutdownHook(new Thread(SeleniumDriverService::stopAll, "verifico-driver-service-shutdown"));
+			isShutdownHookAdded = true;
+		}
+		log.debug("Started shared " + browser + " Web Driver Service at " + service.getUrl() + ".");
+	}
+
+	private static synchronized void discardService(DriverService service) {
+		startedServices.remove(service);
+		stopService(service);
+	}
+
+	private static void stopService(DriverService service) {
+		try {
+			service.stop();
+		} catch (Exception e) {
+			log.debug("Encountered Exception while stopping Web Driver Service.");
+			log.debug(ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.openqa.selenium.WebElement;
+
+/**
+ * Web Elements resolved by the Web Element waits, kept for the succeeding commands on the same locator. Each Web
+ * Element is only valid for the Navigation Epoch and Window Handle it was resolved in.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumElementCache {
+
+	private Map<String, Entry> entries;
+	private long hits;
+	private long misses;
+
+	private static final int MAX_ENTRIES = 256;
+
+	private static class Entry {
+
+		private WebElement element;
+		private long navigationEpoch;
+		private String windowHandle;
+
+		private Entry(WebElement element, long navigationEpoch, String windowHandle) {
+			this.element = element;
+			this.navigationEpoch = navigationEpoch;
+			this.windowHandle = windowHandle;
+		}
+
+	}
+
+	SeleniumElementCache() {
+		this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return this.size() > MAX_ENTRIES;
+			}
+		};
+		this.hits = 0;
+		this.misses = 0;
+	}
+
+	/**
+	 * Gets the Web Element cached for the key if it was resolved in the current Navigation Epoch and Window Handle.
+	 * Entries of other Navigation Epochs or Window Handles are removed.
+	 *
+	 * @param key				Locator chain of the Web Element.
+	 * @param navigationEpoch	Current Navigation Epoch.
+	 * @param windowHandle		Current Window Handle.
+	 * @return Cached Web Element, <code>null</code> if none is valid.
+	 */
+
+	WebElement get(String key, long navigationEpoch, String windowHandle) {
+		Entry entry = this.entries.get(key);
+		if (entry == null) {
+			this.misses++;
+			return null;
+		}
+		if (entry.navigationEpoch != navigationEpoch || !String.valueOf(entry.windowHandle).equals(String.valueOf(windowHandle))) {
+			this.entries.remove(key);
+			this.misses++;
+			return null;
+		}
+		this.hits++;
+		return entry.element;
+	}
+
+	void put(String key, WebElement element, long navigationEpoch, String windowHandle) {
+		if (element != null) {
+			this.entries.put(key, new Entry(element, navigationEpoch, windowHandle));
+		}
+	}
+
+	void evict(String key) {
+		this.entries.remove(key);
+	}
+
+	void clear() {
+		this.entries.clear();
+	}
+
+	@Override
+	public String toString() {
+		return "cached Web Elements: " + this.entries.size() + ", hits: " + this.hits + ", misses: " + this.misses;
+	}
+
+}
@@ -0,0 +1,62 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+/**
+ * Event-driven element wait. One asynchronous script is installed per wait, and it returns the Web Element the
+ * moment it satisfies the wait condition, as observed by a MutationObserver and on every animation frame. The
+ * script returns <code>null</code> once the wait time has expired.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumEventWait {
+
+	static final String PRESENT = "present";
+	static final String VISIBLE = "visible";
+	static final String CLICKABLE = "clickable";
+	static final String TEXT_TO_BE = "textToBe";
+	static final String TEXT_TO_CONTAIN = "textToContain";
+	static final String ATTRIBUTE_TO_BE = "attributeToBe";
+	static final String ATTRIBUTE_TO_CONTAIN = "attributeToContain";
+
+	static final String EVENT_WAIT_SCRIPT = "var type = arguments[0], value = arguments[1], condition = arguments[2], expected = arguments[3], attribute = arguments[4], timeoutMillis = arguments[5];"
+			+ "var callback = arguments[arguments.length - 1];"
+			+ SeleniumQuiescence.FIND_FUNCTION
+			+ "function isVisible(e) {"
+			+ "  if (!document.documentElement.contains(e)) { return false; }"
+			+ "  var style = window.getComputedStyle(e);"
+			+ "  return style.visibility !== 'hidden' && style.display !== 'none' && !!(e.offsetWidth || e.offsetHeight || e.getClientRects().length);"
+			+ "}"
+			+ "function text(e) { return (e.innerText || e.textContent || '').trim(); }"
+			+ "function attributeOf(e) {"
+			+ "  var v = attribute in e && typeof e[attribute] !== 'object' && typeof e[attribute] !== 'function' ? e[attribute] : e.getAttribute(attribute);"
+			+ "  return v === null || v === undefined ? null : String(v);"
+			+ "}"
+			+ "function check() {"
+			+ "  var elements = find(document, type, value), e = elements.length > 0 ? elements[0] : null;"
+			+ "  if (!e) { return null; }"
+			+ "  switch (condition) {"
+			+ "  case 'present': return e;"
+			+ "  case 'visible': return isVisible(e) ? e : null;"
+			+ "  case 'clickable': return isVisible(e) && !e.disabled ? e : null;"
+			+ "  case 'textToBe': return isVisible(e) && text(e) === expected ? e : null;"
+			+ "  case 'textToContain': return text(e).indexOf(expected) >= 0 ? e : null;"
+			+ "  case 'attributeToBe': return attributeOf(e) === expected ? e : null;"
+			+ "  case 'attributeToContain': var v = attributeOf(e); return v !== null && v.indexOf(expected) >= 0 ? e : null;"
+			+ "  }"
+			+ "  return null;"
+			+ "}"
+			+ "var isDone = false, frame = null, limitTimer = null, tickTimer = null;"
+			+ "function finish(result) { if (isDone) { return; } isDone = true; observer.disconnect(); clearTimeout(limitTimer); clearInterval(tickTimer); callback(result); }"
+			+ "function evaluate() { frame = null; if (isDone) { return; } var result = check(); if (result) { finish(result); } }"
+			+ "function schedule() { if (!isDone && frame === null) { frame = window.requestAnimationFrame ? window.requestAnimationFrame(evaluate) : setTimeout(evaluate, 16); } }"
+			+ "var observer = new MutationObserver(schedule);"
+			+ "observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });"
+			+ "tickTimer = setInterval(evaluate, 100);"
+			+ "limitTimer = setTimeout(function () { finish(null); }, timeoutMillis);"
+			+ "evaluate();";
+
+	private SeleniumEventWait() {
+	}
+
+}
@@ -1,11 +1,13 @@
 package com.github.abagabagon.verifico.automation.web.selenium;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -47,15 +49,19 @@ public class SeleniumGetCommands extends SeleniumCommands {
 			}
 			actionPerformed = true;
 		} catch (NullPointerException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(getAction) + "\" for Web Element \"" + element.toString() + "\". Element created is NULL.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (StaleElementReferenceException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(getAction) + "\" for Web Element \"" + element.toString() + "\". The Web Element is no longer present in the Web Page.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (UnexpectedTagNameException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(getAction) + "\" for Web Element \"" + element.toString() + "\". Element does not have a SELECT Tag.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (Exception e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(getAction) + "\" for Web Element \"" + element.toString() + "\".");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
@@ -63,294 +69,301 @@ public class SeleniumGetCommands extends SeleniumCommands {
 	}
 	
 	String doBasicCommand(GetAction getAction, By locator, String attribute) {
-		boolean actionPerformed = false;
-		WebElement element = null;
-		for(int i = 1; i <= 4; i++) {
-			element = this.seleniumWait.waitForObjectToBePresent(locator);
-			actionPerformed = this.execute(getAction, element, attribute);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(getAction) + "\" for Web Element \"" + locator.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Web Element \"" + locator.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Web Element \"" + locator.toString() + "\".", () -> {
+				WebElement element = this.seleniumWait.waitForObjectToBePresent(locator);
+				return this.execute(getAction, element, attribute);
+			});
+			return retrievedValue;
+		} finally {
+			this.endStep();
 		}
-		return retrievedValue;
 	}
 	
 	String doBasicCommand(GetAction getAction, By parent, By child, String attribute) {
-		boolean actionPerformed = false;
-		WebElement parentElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElement = this.seleniumWait.waitForObjectToBeVisible(parent);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
-			actionPerformed = this.execute(getAction, childElement, attribute);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".", () -> {
+				WebElement parentElement = this.seleniumWait.waitForObjectToBeVisible(parent);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
+				return this.execute(getAction, childElement, attribute);
+			});
+			return retrievedValue;
+		} finally {
+			this.endStep();
 		}
-		return retrievedValue;
 	}
 	
 	String doBasicCommand(GetAction getAction, By parentList, int index, By child, String attribute) {
-		boolean actionPerformed = false;
-		WebElement parentElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElement = this.seleniumWait.waitForObjectsToBeVisible(parentList).get(index);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
-			actionPerformed = this.execute(getAction, childElement, attribute);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\".", () -> {
+				WebElement parentElement = this.seleniumWait.waitForObjectsToBeVisible(parentList).get(index);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
+				return this.execute(getAction, childElement, attribute);
+			});
+			return retrievedValue;
+		} finally {
+			this.endStep();
+		}
+	}
+	
+	/**
+	 * Gets the texts or attribute values of all Web Elements of a list object in a single round trip.
+	 * 
+	 * @param getAction	<code>GET_TEXT</code> or <code>GET_ATTRIBUTE</code>.
+	 * @param locator	List Object to get the values from.
+	 * @param attribute	Attribute to get for <code>GET_ATTRIBUTE</code>.
+	 * @return Values in the order of the Web Elements of the list.
+	 */
+	
+	List<String> doListCommand(GetAction getAction, By locator, String attribute) {
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			List<String> values = new ArrayList<String>();
+			if (getAction != GetAction.GET_TEXT && getAction != GetAction.GET_ATTRIBUTE) {
+				this.log.fatal("Unsupported User Action.");
+				return values;
 			}
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Web Element List \"" + locator.toString() + "\".", () -> {
+				try {
+					List<WebElement> elements = this.seleniumWait.waitForListToBeVisible(locator);
+					values.addAll(this.getValues(elements, getAction == GetAction.GET_TEXT ? null : attribute));
+					return true;
+				} catch (StaleElementReferenceException e) {
+					this.recordFailure(e);
+					this.log.warn("Unable to perform \"" + String.valueOf(getAction) + "\" for Web Element List \"" + locator.toString() + "\". The Web Element List is no longer present in the Web Page.");
+					this.log.debug(ExceptionUtils.getStackTrace(e));
+					return false;
+				}
+			});
+			return values;
+		} finally {
+			this.endStep();
 		}
-		return retrievedValue;
 	}
 	
-	String doTableCommand(GetAction getAction, By parent, By rowObjectList, int index, By child, String attribute) {
-		boolean actionPerformed = false;
-		WebElement parentElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElement = this.seleniumWait.waitForNestedObjectsToBePresent(parent, rowObjectList).get(index);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
-			actionPerformed = this.execute(getAction, childElement, attribute);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".");
+	/**
+	 * Gets the cell values of all Rows of a table object in a single round trip. Cells are the Child Web Elements
+	 * located by the cell objects, or all Child Web Elements of each Row if no cell object is specified. The value of a
+	 * cell is its attribute value if an attribute is specified, otherwise the value of INPUT and TEXTAREA, the selected
+	 * option of SELECT or the visible innerText of other Web Elements.
+	 * 
+	 * @param rowObjectList	Row Object List corresponding to the rows of the table
+	 * @param cellObjects	Object Locators relative to the Row Object of each column.
+	 * @param attribute		Attribute to get from each cell, <code>null</code> to get the text or value.
+	 * @return Cell values in a form of an Object Array, one row per Row of the table.
+	 */
+	
+	Object[][] doTableDataCommand(By rowObjectList, By[] cellObjects, String attribute) {
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			List<List<String>> data = new ArrayList<List<String>>();
+			boolean isRetrieved = this.retry(deadline, "Failed to get data from Table Rows \"" + rowObjectList.toString() + "\".", () -> {
+				try {
+					List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+					data.addAll(this.getTableData(rows, cellObjects, attribute));
+					return true;
+				} catch (StaleElementReferenceException e) {
+					this.recordFailure(e);
+					this.log.warn("Unable to get data from Table Rows \"" + rowObjectList.toString() + "\". The Web Element is no longer present in the Web Page.");
+					this.log.debug(ExceptionUtils.getStackTrace(e));
+					return false;
 				}
-			} else {
-				break;
+			});
+			if (!isRetrieved) {
+				return new Object[0][0];
 			}
+			int columnCount = cellObjects.length;
+			for (List<String> row : data) {
+				columnCount = Math.max(columnCount, row.size());
+			}
+			Object[][] tableData = new Object[data.size()][columnCount];
+			for (int i = 0; i < data.size(); i++) {
+				for (int j = 0; j < data.get(i).size(); j++) {
+					tableData[i][j] = data.get(i).get(j);
+				}
+			}
+			this.log.trace("Retrieved " + data.size() + " Row(s) and " + columnCount + " Column(s) from Table Rows \"" + rowObjectList.toString() + "\".");
+			return tableData;
+		} finally {
+			this.endStep();
 		}
-		return this.retrievedValue;
 	}
 	
-	String doTableCommand(GetAction getAction, By parentList, int parentIndex, By rowObjectList, int rowIndex, By child, String attribute) {
-		boolean actionPerformed = false;
-		List<WebElement> parentElementList = null;
-		List<WebElement> rowChildElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
-			rowChildElement = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), rowObjectList);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(rowChildElement.get(rowIndex), child);
-			this.seleniumWait.waitForObjectToBeVisible(childElement);
-			actionPerformed = this.execute(getAction, childElement, attribute);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\".");
-				}
-			} else {
+	private List<List<String>> getTableData(List<WebElement> rows, By[] cellObjects, String attribute) {
+		List<List<String>> data = new ArrayList<List<String>>();
+		List<String[]> cellLocators = new ArrayList<String[]>();
+		for (By cellObject : cellObjects) {
+			String[] cellLocator = SeleniumQuiescence.toScriptLocator(cellObject);
+			if (cellLocator == null) {
+				cellLocators = null;
 				break;
 			}
+			cellLocators.add(cellLocator);
+		}
+		if (cellLocators != null) {
+			Object result = ((JavascriptExecutor) this.driver).executeScript(SeleniumTableQuery.TABLE_DATA_SCRIPT, rows, cellLocators, attribute);
+			if (result instanceof List) {
+				for (Object row : (List<?>) result) {
+					List<String> values = new ArrayList<String>();
+					if (row instanceof List) {
+						for (Object value : (List<?>) row) {
+							values.add(value == null ? null : String.valueOf(value));
+						}
+					}
+					data.add(values);
+				}
+			}
+			return data;
+		}
+		for (WebElement row : rows) {
+			List<String> values = new ArrayList<String>();
+			for (By cellObject : cellObjects) {
+				List<WebElement> cells = row.findElements(cellObject);
+				values.add(cells.isEmpty() ? null : this.getCellValue(cells.get(0), attribute));
+			}
+			data.add(values);
+		}
+		return data;
+	}
+	
+	private String getCellValue(WebElement cell, String attribute) {
+		if (attribute != null) {
+			return cell.getAttribute(attribute);
+		}
+		switch(cell.getTagName().toLowerCase()) {
+		case "input":
+		case "textarea":
+			return cell.getAttribute("value");
+		case "select":
+			return new Select(cell).getFirstSelectedOption().getText().trim();
+		default:
+			return cell.getText().trim();
+		}
+	}
+	
+	String doTableCommand(GetAction getAction, By parent, By rowObjectList, int index, By child, String attribute) {
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".", () -> {
+				WebElement parentElement = this.seleniumWait.waitForNestedObjectsToBePresent(parent, rowObjectList).get(index);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
+				return this.execute(getAction, childElement, attribute);
+			});
+			return this.retrievedValue;
+		} finally {
+			this.endStep();
+		}
+	}
+	
+	String doTableCommand(GetAction getAction, By parentList, int parentIndex, By rowObjectList, int rowIndex, By child, String attribute) {
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(getAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\".", () -> {
+				List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
+				List<WebElement> rowChildElement = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), rowObjectList);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(rowChildElement.get(rowIndex), child);
+				this.seleniumWait.waitForObjectToBeVisible(childElement);
+				return this.execute(getAction, childElement, attribute);
+			});
+			return this.retrievedValue;
+		} finally {
+			this.endStep();
 		}
-		return this.retrievedValue;
 	}
 	
 	String doTableCommandBasedOnText(GetAction getAction, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToDoActionTo, String attribute) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		String value = null;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckText, j);
-				String text = elementToCheckText.getText().trim();
-				if (text.contains(textToCheck)) {
-					value = this.doBasicCommand(getAction, rowObjectList, j, rowObjectToDoActionTo, attribute);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			String value = null;
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(null, rowObjectList, rowObjectToCheckText, null, textToCheck));
+			if (j >= 0) {
+				value = this.doBasicCommand(getAction, rowObjectList, j, rowObjectToDoActionTo, attribute);
 			}
+			return value;
+		} finally {
+			this.endStep();
 		}
-		return value;
 	}
 	
 	String doTableCommandBasedOnText(GetAction getAction, By parent, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToDoActionTo, String attribute) {
-		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		List<WebElement> rows = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		String value = null;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(parent, rowObjectList, rowObjectToCheckText, j);
-				String text = elementToCheckText.getText().trim();
-				if (text.contains(textToCheck)) {
-					value = this.doTableCommand(getAction, parent, rowObjectList, j, rowObjectToDoActionTo, attribute);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			this.seleniumWait.waitForNestedObjectsToBeVisible(parent, rowObjectList);
+			String value = null;
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(this.seleniumWait.waitForObjectToBePresent(parent), rowObjectList, rowObjectToCheckText, null, textToCheck));
+			if (j >= 0) {
+				value = this.doTableCommand(getAction, parent, rowObjectList, j, rowObjectToDoActionTo, attribute);
 			}
+			return value;
+		} finally {
+			this.endStep();
 		}
-		return value;
 	}
 	
 	String doTableCommandBasedOnText(GetAction getAction, By parentList, int parentIndex, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToDoActionTo, String attribute) {
-		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		List<WebElement> parentElementList = this.seleniumWait.waitForTableRowsToBeVisible(parentList);
-		List<WebElement> rows = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		String value = null;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(parentElementList.get(parentIndex), rowObjectList, rowObjectToCheckText, j);
-				String text = elementToCheckText.getText().trim();
-				if (text.contains(textToCheck)) {
-					value = this.doTableCommand(getAction, parentList, parentIndex, rowObjectList, j, rowObjectToDoActionTo, attribute);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			String value = null;
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(parentList, parentIndex, rowObjectList, rowObjectToCheckText, null, textToCheck));
+			if (j >= 0) {
+				value = this.doTableCommand(getAction, parentList, parentIndex, rowObjectList, j, rowObjectToDoActionTo, attribute);
 			}
+			return value;
+		} finally {
+			this.endStep();
 		}
-		return value;
 	}
 	
 	String doTableCommandBasedOnAttributeValue(GetAction getAction, By rowObjectList, By rowObjectToCheckAttributeValue, String attributeToCheck, String valueToCheck, By rowObjectToDoActionTo, String attribute) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		String value = null;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckAttributeValue, j);
-				String text = elementToCheckText.getAttribute(attributeToCheck).trim();
-				if (text.contains(valueToCheck)) {
-					value = this.doBasicCommand(getAction, rowObjectList, j, rowObjectToDoActionTo, attribute);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			String value = null;
+			int j = this.retryForIndex(deadline, "I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(null, rowObjectList, rowObjectToCheckAttributeValue, attributeToCheck, valueToCheck));
+			if (j >= 0) {
+				value = this.doBasicCommand(getAction, rowObjectList, j, rowObjectToDoActionTo, attribute);
 			}
+			return value;
+		} finally {
+			this.endStep();
 		}
-		return value;
 	}
 	
 	String doTableCommandBasedOnAttributeValue(GetAction getAction, By parent, By rowObjectList, By rowObjectToCheckAttributeValue, String attributeToCheck, String valueToCheck, By rowObjectToDoActionTo, String attribute) {
-		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		List<WebElement> rows = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		String value = null;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(parent, rowObjectList, rowObjectToCheckAttributeValue, j);
-				String text = elementToCheckText.getAttribute(attribute).trim();
-				if (text.contains(valueToCheck)) {
-					value = this.doTableCommand(getAction, parent, rowObjectList, j, rowObjectToDoActionTo, attribute);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			this.seleniumWait.waitForNestedObjectsToBeVisible(parent, rowObjectList);
+			String value = null;
+			int j = this.retryForIndex(deadline, "I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(this.seleniumWait.waitForObjectToBePresent(parent), rowObjectList, rowObjectToCheckAttributeValue, attributeToCheck, valueToCheck));
+			if (j >= 0) {
+				value = this.doTableCommand(getAction, parent, rowObjectList, j, rowObjectToDoActionTo, attribute);
 			}
+			return value;
+		} finally {
+			this.endStep();
 		}
-		return value;
 	}
 	
 	String doTableCommandBasedOnAttributeValue(GetAction getAction, By parentList, int parentIndex, By rowObjectList, By rowObjectToCheckAttributeValue, String attributeToCheck, String valueToCheck, By rowObjectToDoActionTo, String attribute) {
-		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBeVisible(parentList);
-		List<WebElement> rows = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		String value = null;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(parentElementList.get(parentIndex), rowObjectList, rowObjectToCheckAttributeValue, j);
-				String text = elementToCheckText.getAttribute(attribute).trim();
-				if (text.contains(valueToCheck)) {
-					value = this.doTableCommand(getAction, parentList, parentIndex, rowObjectList, j, rowObjectToDoActionTo, attribute);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			String value = null;
+			int j = this.retryForIndex(deadline, "I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(parentList, parentIndex, rowObjectList, rowObjectToCheckAttributeValue, attributeToCheck, valueToCheck));
+			if (j >= 0) {
+				value = this.doTableCommand(getAction, parentList, parentIndex, rowObjectList, j, rowObjectToDoActionTo, attribute);
 			}
+			return value;
+		} finally {
+			this.endStep();
 		}
-		return value;
 	}
 
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Properties;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Properties file that keeps a history learned during the run, such as Wait or Click history, for the next run. The
+ * file path is set by a System Property, and the history is saved to it on JVM exit.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumHistoryFile {
+
+	private Logger log;
+	private File file;
+	private String name;
+
+	private SeleniumHistoryFile(File file, String name) {
+		this.log = LogManager.getLogger(this.getClass());
+		this.file = file;
+		this.name = name;
+	}
+
+	/**
+	 * Gets the history file set by a System Property, and saves the history to it on JVM exit.
+	 *
+	 * @param property	System Property holding the file path.
+	 * @param name		Name of the history used in the file comment and log messages, e.g. <code>Wait</code>.
+	 * @param save		Saves the history to the file.
+	 * @return History file, <code>null</code> if the System Property is not set.
+	 */
+
+	static SeleniumHistoryFile fromProperty(String property, String name, Runnable save) {
+		String path = System.getProperty(property);
+		if (path == null || path.trim().isEmpty()) {
+			return null;
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread(save, "verifico-" + name.toLowerCase() + "-history-save"));
+		return new SeleniumHistoryFile(new File(path), name);
+	}
+
+	/**
+	 * Loads the history from the file.
+	 *
+	 * @return History entries, <code>null</code> if the file does not exist or cannot be read.
+	 */
+
+	Properties load() {
+		if (!this.file.isFile()) {
+			return null;
+		}
+		Properties history = new Properties();
+		try (InputStream input = new FileInputStream(this.file)) {
+			history.load(input);
+		} catch (IOException e) {
+			this.log.warn("Unable to read " + this.name + " history file: \"" + this.file + "\".");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+			return null;
+		}
+		return history;
+	}
+
+	/**
+	 * Saves the history to the file, creating its directory if needed.
+	 *
+	 * @param history History entries to save.
+	 */
+
+	synchronized void save(Properties history) {
+		File directory = this.file.getAbsoluteFile().getParentFile();
+		if (directory != null && !directory.isDirectory() && !directory.mkdirs()) {
+			this.log.warn("Unable to create " + this.name + " history directory: \"" + directory + "\".");
+			return;
+		}
+		try (OutputStream output = new FileOutputStream(this.file)) {
+			history.store(output, "Verifico " + this.name + " History");
+		} catch (IOException e) {
+			this.log.warn("Unable to write " + this.name + " history file: \"" + this.file + "\".");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	@Override
+	public String toString() {
+		return this.file.toString();
+	}
+
+}
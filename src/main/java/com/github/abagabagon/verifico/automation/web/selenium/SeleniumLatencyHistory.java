@@ -0,0 +1,181 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+
+/**
+ * Time-to-ready histograms of Web Element locators, used by the <code>ADAPTIVE</code> Wait Engine to poll tightly
+ * around the time a Web Element is usually ready and to back off exponentially after that.
+ * <p>
+ * Histograms are kept for the run. When the <code>verifico.wait.history</code> System Property is set to a file
+ * path, histograms are loaded from that file and saved to it on JVM exit so that the next run starts warm.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumLatencyHistory {
+
+	private static Logger log;
+	private static Map<String, AtomicLongArray> histograms;
+	private static SeleniumHistoryFile historyFile;
+
+	private static final long[] BUCKET_BOUNDS = { 25, 50, 100, 200, 400, 800, 1600, 3200, 6400, 12800, 25600 };
+	private static final int MIN_SAMPLES = 3;
+	private static final long MIN_POLL_MILLIS = 25;
+	private static final long MAX_POLL_MILLIS = 1000;
+
+	static {
+		log = LogManager.getLogger(SeleniumLatencyHistory.class);
+		log.debug("Initializing SeleniumLatencyHistory Class.");
+		histograms = new ConcurrentHashMap<String, AtomicLongArray>();
+		historyFile = SeleniumHistoryFile.fromProperty("verifico.wait.history", "Wait", SeleniumLatencyHistory::save);
+		if (historyFile != null) {
+			load();
+		}
+		log.debug("Successfully initialized SeleniumLatencyHistory Class.");
+	}
+
+	/**
+	 * Records the time a Web Element took to be ready.
+	 *
+	 * @param locator		By Object used to locate the Web Element.
+	 * @param readyMillis	Time in milliseconds the Web Element took to be ready.
+	 */
+
+	static void record(By locator, long readyMillis) {
+		AtomicLongArray histogram = histograms.computeIfAbsent(locator.toString(), k -> new AtomicLongArray(BUCKET_BOUNDS.length));
+		histogram.incrementAndGet(bucketOf(readyMillis));
+	}
+
+	/**
+	 * Gets the delay before the next poll of a Web Element. Polling is skipped until the usual time-to-ready of the
+	 * locator, is tight while the Web Element is usually becoming ready, and backs off exponentially after that.
+	 * Locators without enough history back off exponentially from the start.
+	 *
+	 * @param locator		By Object used to locate the Web Element.
+	 * @param elapsedMillis	Time in milliseconds since the wait started.
+	 * @return Delay in milliseconds before the next poll
+	 */
+
+	static long getPollDelay(By locator, long elapsedMillis) {
+		AtomicLongArray histogram = histograms.get(locator.toString());
+		long total = histogram == null ? 0 : total(histogram);
+		if (total < MIN_SAMPLES) {
+			return clamp(elapsedMillis / 2);
+		}
+		long expectedFrom = lowerBound(percentile(histogram, total, 0.1));
+		long expectedUntil = BUCKET_BOUNDS[percentile(histogram, total, 0.9)];
+		if (elapsedMillis < expectedFrom) {
+			return expectedFrom - elapsedMillis;
+		} else if (elapsedMillis <= expectedUntil) {
+			return clamp((expectedUntil - expectedFrom) / 8);
+		}
+		return clamp(elapsedMillis - expectedUntil);
+	}
+
+	/**
+	 * Gets the median time-to-ready recorded for a Web Element locator.
+	 *
+	 * @param locator By Object used to locate the Web Element.
+	 * @return Upper bound in milliseconds of the median time-to-ready, <code>-1</code> if nothing is recorded.
+	 */
+
+	public static long getExpectedMillis(By locator) {
+		AtomicLongArray histogram = histograms.get(locator.toString());
+		long total = histogram == null ? 0 : total(histogram);
+		return total == 0 ? -1 : BUCKET_BOUNDS[percentile(histogram, total, 0.5)];
+	}
+
+	/**
+	 * Removes all recorded histograms.
+	 */
+
+	public static void clear() {
+		histograms.clear();
+	}
+
+	/**
+	 * Saves the histograms to the file set by the <code>verifico.wait.history</code> System Property.
+	 */
+
+	public static synchronized void save() {
+		if (historyFile == null) {
+			return;
+		}
+		Properties history = new Properties();
+		for (Map.Entry<String, AtomicLongArray> entry : histograms.entrySet()) {
+			StringBuilder counts = new StringBuilder();
+			for (int i = 0; i < entry.getValue().length(); i++) {
+				counts.append(i == 0 ? "" : ",").append(entry.getValue().get(i));
+			}
+			history.setProperty(entry.getKey(), counts.toString());
+		}
+		historyFile.save(history);
+	}
+
+	private static void load() {
+		Properties history = historyFile.load();
+		if (history == null) {
+			return;
+		}
+		for (String key : history.stringPropertyNames()) {
+			String[] counts = history.getProperty(key).split(",");
+			AtomicLongArray histogram = new AtomicLongArray(BUCKET_BOUNDS.length);
+			try {
+				for (int i = 0; i < counts.length && i < BUCKET_BOUNDS.length; i++) {
+					histogram.set(i, Long.parseLong(counts[i].trim()));
+				}
+			} catch (NumberFormatException e) {
+				log.debug("Ignoring invalid Wait history of \"" + key + "\".");
+				continue;
+			}
+			histograms.put(key, histogram);
+		}
+		log.debug("Loaded Wait history of " + histograms.size() + " locator(s) from \"" + historyFile + "\".");
+	}
+
+	private static int bucketOf(long millis) {
+		for (int i = 0; i < BUCKET_BOUNDS.length - 1; i++) {
+			if (millis <= BUCKET_BOUNDS[i]) {
+				return i;
+			}
+		}
+		return BUCKET_BOUNDS.length - 1;
+	}
+
+	private static long lowerBound(int bucket) {
+		return bucket == 0 ? 0 : BUCKET_BOUNDS[bucket - 1];
+	}
+
+	private static long total(AtomicLongArray histogram) {
+		long total = 0;
+		for (int i = 0; i < histogram.length(); i++) {
+			total += histogram.get(i);
+		}
+		return total;
+	}
+
+	private static int percentile(AtomicLongArray histogram, long total, double percentile) {
+		long target = (long) Math.ceil(total * percentile);
+		long count = 0;
+		for (int i = 0; i < histogram.length(); i++) {
+			count += histogram.get(i);
+			if (count >= target) {
+				return i;
+			}
+		}
+		return histogram.length() - 1;
+	}
+
+	private static long clamp(long millis) {
+		return Math.max(MIN_POLL_MILLIS, Math.min(MAX_POLL_MILLIS, millis));
+	}
+
+}
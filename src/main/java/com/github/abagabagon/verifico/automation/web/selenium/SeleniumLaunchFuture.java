@@ -0,0 +1,69 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.github.abagabagon.verifico.automation.web.WebAutomation;
+
+/**
+ * Future of an asynchronous Browser launch that records the time the test thread was blocked waiting for it.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumLaunchFuture implements Future<WebAutomation> {
+
+	private final Future<WebAutomation> future;
+	private volatile boolean isRecorded;
+
+	SeleniumLaunchFuture(Future<WebAutomation> future) {
+		this.future = future;
+		this.isRecorded = false;
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		return this.future.cancel(mayInterruptIfRunning);
+	}
+
+	@Override
+	public boolean isCancelled() {
+		return this.future.isCancelled();
+	}
+
+	@Override
+	public boolean isDone() {
+		return this.future.isDone();
+	}
+
+	@Override
+	public WebAutomation get() throws InterruptedException, ExecutionException {
+		long start = System.currentTimeMillis();
+		try {
+			return this.future.get();
+		} finally {
+			this.record(System.currentTimeMillis() - start);
+		}
+	}
+
+	@Override
+	public WebAutomation get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		long start = System.currentTimeMillis();
+		try {
+			return this.future.get(timeout, unit);
+		} finally {
+			this.record(System.currentTimeMillis() - start);
+		}
+	}
+
+	private synchronized void record(long millis) {
+		if (!this.isRecorded) {
+			this.isRecorded = true;
+			SeleniumLaunchMetrics.recordBlocked(millis);
+		}
+	}
+
+}
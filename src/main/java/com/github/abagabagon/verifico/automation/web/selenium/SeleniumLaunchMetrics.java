@@ -0,0 +1,117 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Browser startup time metrics. Compares the time spent booting Browsers against the time test threads were
+ * actually blocked waiting for a Browser, so that the time saved by asynchronous and prewarmed launches can be seen.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumLaunchMetrics {
+
+	private static final AtomicLong launchCount = new AtomicLong();
+	private static final AtomicLong launchMillis = new AtomicLong();
+	private static final AtomicLong maxLaunchMillis = new AtomicLong();
+	private static final AtomicLong blockedCount = new AtomicLong();
+	private static final AtomicLong blockedMillis = new AtomicLong();
+
+	static void recordLaunch(long millis) {
+		launchCount.incrementAndGet();
+		launchMillis.addAndGet(millis);
+		maxLaunchMillis.accumulateAndGet(millis, Math::max);
+	}
+
+	static void recordBlocked(long millis) {
+		blockedCount.incrementAndGet();
+		blockedMillis.addAndGet(millis);
+	}
+
+	/**
+	 * Gets the number of Browsers booted.
+	 *
+	 * @return number of Browsers booted
+	 */
+
+	public static long getLaunchCount() {
+		return launchCount.get();
+	}
+
+	/**
+	 * Gets the total time spent booting Browsers, whether in the foreground or in the background.
+	 *
+	 * @return total Browser boot time in milliseconds
+	 */
+
+	public static long getTotalLaunchMillis() {
+		return launchMillis.get();
+	}
+
+	/**
+	 * Gets the average time spent booting a Browser.
+	 *
+	 * @return average Browser boot time in milliseconds
+	 */
+
+	public static long getAverageLaunchMillis() {
+		long count = launchCount.get();
+		return count == 0 ? 0 : launchMillis.get() / count;
+	}
+
+	/**
+	 * Gets the longest time spent booting a Browser.
+	 *
+	 * @return longest Browser boot time in milliseconds
+	 */
+
+	public static long getMaxLaunchMillis() {
+		return maxLaunchMillis.get();
+	}
+
+	/**
+	 * Gets the total time test threads were blocked opening Browsers.
+	 *
+	 * @return total blocked time in milliseconds
+	 */
+
+	public static long getTotalBlockedMillis() {
+		return blockedMillis.get();
+	}
+
+	/**
+	 * Gets the wall-clock time saved by overlapping Browser boot with other work.
+	 *
+	 * @return saved time in milliseconds
+	 */
+
+	public static long getSavedMillis() {
+		return Math.max(0, launchMillis.get() - blockedMillis.get());
+	}
+
+	/**
+	 * Gets a one line summary of the Browser startup time metrics.
+	 *
+	 * @return Browser startup time metrics summary
+	 */
+
+	public static String getSummary() {
+		return "Browser launches: " + getLaunchCount() + ", average boot: " + getAverageLaunchMillis() + " ms, longest boot: " + getMaxLaunchMillis()
+				+ " ms, total boot: " + getTotalLaunchMillis() + " ms, blocked on open: " + getTotalBlockedMillis() + " ms over " + blockedCount.get()
+				+ " opens, saved: " + getSavedMillis() + " ms.";
+	}
+
+	/**
+	 * Resets all Browser startup time metrics.
+	 */
+
+	public static void reset() {
+		launchCount.set(0);
+		launchMillis.set(0);
+		maxLaunchMillis.set(0);
+		blockedCount.set(0);
+		blockedMillis.set(0);
+	}
+
+}
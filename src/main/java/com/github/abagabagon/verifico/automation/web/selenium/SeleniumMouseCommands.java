@@ -7,13 +7,18 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
 
+import com.github.abagabagon.verifico.automation.web.selenium.SeleniumClickStrategies.ClickStrategy;
+
 public class SeleniumMouseCommands extends SeleniumCommands {
 
 	private Logger log;
@@ -34,16 +39,18 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 * 
 	 * @param mouseAction	Mouse Action to perform
 	 * @param element		Web Element to perform Mouse Action to.
+	 * @param locator		Locator chain of the Web Element, used to learn its click strategy.
 	 * @return	<code>true</code> if able to perform Mouse Action.
 	 * 			<code>false</code> if unable to perform Mouse Action.
 	 */
 	
-	private boolean execute(MouseAction mouseAction, WebElement element) {
+	private boolean execute(MouseAction mouseAction, WebElement element, String locator) {
 		boolean actionPerformed = false;
+		this.seleniumWait.invalidatePage();
 		try {
 			switch(mouseAction) {
 			case CLICK:
-				element.click();
+				this.click(element, locator);
 				break;
 			case CLICKJS:
 				this.javascriptExecutor.executeScript("arguments[0].click();", element);
@@ -64,12 +71,15 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 			}
 			actionPerformed = true;
 		} catch (NullPointerException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + element.toString() + "\". Element created is NULL.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (StaleElementReferenceException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + element.toString() + "\". The Web Element is no longer present in the Web Page.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (ElementClickInterceptedException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + element.toString() + "\". The Web Element is unclickable because it's not on view.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 			element = this.seleniumWait.waitForObjectToBeVisible(element);
@@ -78,6 +88,7 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 			this.action.moveToElement(element).perform();
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (MoveTargetOutOfBoundsException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + element.toString() + "\". The Web Element is out-of-bounds.");
 			element = this.seleniumWait.waitForObjectToBeVisible(element);
 			String script = "window.scrollTo(" + element.getLocation().x + ","+ element.getLocation().y + ")";
@@ -85,12 +96,55 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 			this.action.moveToElement(element).perform();
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (Exception e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + element.toString() + "\".");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
 		return actionPerformed;
 	}
 	
+	/**
+	 * Clicks the Web Element with the click strategy that last worked for its locator on the current Page, falling back
+	 * to the other strategies when the Web Element is out of view or not interactable. The strategy that works is
+	 * remembered for the next click. An overlapped Web Element is not clicked through: the failure is thrown so that
+	 * the Retry Policy backs off until the overlay is gone.
+	 * 
+	 * @param element	Web Element to click.
+	 * @param locator	Locator chain of the Web Element.
+	 */
+	
+	private void click(WebElement element, String locator) {
+		String pageUrl = this.seleniumWait.getPageUrl();
+		WebDriverException failure = null;
+		for (ClickStrategy strategy : SeleniumClickStrategies.getOrder(pageUrl, locator)) {
+			try {
+				switch(strategy) {
+				case NATIVE:
+					element.click();
+					break;
+				case SCROLL_INTO_VIEW:
+					this.javascriptExecutor.executeScript("arguments[0].scrollIntoView({block: 'center', inline: 'center'});", element);
+					element.click();
+					break;
+				case ACTIONS:
+					this.action.moveToElement(element).click().perform();
+					break;
+				case JAVASCRIPT:
+					this.javascriptExecutor.executeScript("arguments[0].click();", element);
+					break;
+				}
+				SeleniumClickStrategies.record(pageUrl, locator, strategy);
+				return;
+			} catch (ElementClickInterceptedException e) {
+				throw e;
+			} catch (ElementNotInteractableException | MoveTargetOutOfBoundsException e) {
+				this.log.debug("Unable to click Web Element \"" + locator + "\" with " + String.valueOf(strategy) + " click. " + e.getClass().getSimpleName() + ".");
+				failure = e;
+			}
+		}
+		throw failure;
+	}
+	
 	/**
 	 * Performs Mouse Commands on specified object.
 	 * 
@@ -99,21 +153,14 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doBasicCommand(MouseAction mouseAction, By locator) {
-		boolean actionPerformed = false;
-		WebElement element = null;
-		for(int i = 1; i <= 4; i++) {
-			element = this.seleniumWait.waitForObjectToBeClickable(locator);
-			actionPerformed = this.execute(mouseAction, element);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + element.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + element.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + locator.toString() + "\".", () -> {
+				WebElement element = this.seleniumWait.waitForObjectToBeClickable(locator);
+				return this.execute(mouseAction, element, locator.toString());
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -126,23 +173,15 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doBasicCommand(MouseAction mouseAction, By parent, By child) {
-		boolean actionPerformed = false;
-		WebElement parentElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElement = this.seleniumWait.waitForObjectToBeVisible(parent);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
-			actionPerformed = this.execute(mouseAction, childElement);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".", () -> {
+				WebElement parentElement = this.seleniumWait.waitForObjectToBeVisible(parent);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
+				return this.execute(mouseAction, childElement, parent.toString() + " > " + child.toString());
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -156,23 +195,15 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doBasicCommand(MouseAction mouseAction, By parentList, int parentIndex, By child) {
-		boolean actionPerformed = false;
-		WebElement parentElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElement = this.seleniumWait.waitForObjectsToBeVisible(parentList).get(parentIndex);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
-			actionPerformed = this.execute(mouseAction, childElement);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\".", () -> {
+				WebElement parentElement = this.seleniumWait.waitForObjectsToBeVisible(parentList).get(parentIndex);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
+				return this.execute(mouseAction, childElement, parentList.toString() + " > " + child.toString());
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -185,23 +216,15 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommand(MouseAction mouseAction, By objectList, int index) {
-		boolean actionPerformed = false;
-		List<WebElement> elements = null;
-		WebElement element = null;
-		for(int i = 1; i <= 4; i++) {
-			elements = this.seleniumWait.waitForObjectsToBeVisible(objectList);
-			element = this.seleniumWait.waitForObjectToBeClickable(elements.get(index));
-			actionPerformed = this.execute(mouseAction, element);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + objectList.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + objectList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + objectList.toString() + "\".", () -> {
+				List<WebElement> elements = this.seleniumWait.waitForObjectsToBeVisible(objectList);
+				WebElement element = this.seleniumWait.waitForObjectToBeClickable(elements.get(index));
+				return this.execute(mouseAction, element, objectList.toString());
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -215,24 +238,16 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommand(MouseAction mouseAction, By parent, By childList, int index) {
-		boolean actionPerformed = false;
-		List<WebElement> elements = null;
-		WebElement element = null;
-		for(int i = 1; i <= 4; i++) {
-			this.seleniumWait.waitForObjectsToBeVisible(childList);
-			elements = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, childList);
-			element = this.seleniumWait.waitForObjectToBeClickable(elements.get(index));
-			actionPerformed = this.execute(mouseAction, element);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + childList.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + childList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + childList.toString() + "\".", () -> {
+				this.seleniumWait.waitForObjectsToBeVisible(childList);
+				List<WebElement> elements = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, childList);
+				WebElement element = this.seleniumWait.waitForObjectToBeClickable(elements.get(index));
+				return this.execute(mouseAction, element, parent.toString() + " > " + childList.toString());
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -247,26 +262,17 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommand(MouseAction mouseAction, By parentList, int parentIndex, By childList, int childIndex) {
-		boolean actionPerformed = false;
-		List<WebElement> parentElementList = null;
-		List<WebElement> childElementList = null;
-		WebElement element = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElementList = this.seleniumWait.waitForObjectsToBeVisible(parentList);
-			this.seleniumWait.waitForObjectsToBeVisible(childList);
-			childElementList = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), childList);
-			this.seleniumWait.waitForObjectToBeClickable(childElementList.get(childIndex));
-			actionPerformed = this.execute(mouseAction, element);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + childList.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + childList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Web Element \"" + childList.toString() + "\".", () -> {
+				List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBeVisible(parentList);
+				this.seleniumWait.waitForObjectsToBeVisible(childList);
+				List<WebElement> childElementList = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), childList);
+				WebElement element = this.seleniumWait.waitForObjectToBeClickable(childElementList.get(childIndex));
+				return this.execute(mouseAction, element, parentList.toString() + " > " + childList.toString());
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -279,28 +285,17 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommandBasedOnText(MouseAction mouseAction, By objectList, String textToCheck) {
-		List<WebElement> elements = this.seleniumWait.waitForListToBeVisible(objectList);
-		int size = elements.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				String text = elements.get(j).getText().trim();
-				if (text.contains(textToCheck)) {
-					this.doListCommand(mouseAction, objectList, j);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  objectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  objectList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  objectList.toString() + "\".", () -> {
+				List<WebElement> elements = this.seleniumWait.waitForListToBeVisible(objectList);
+				return this.getListIndex(ValueAssertionAction.PARTIAL_TEXT, elements, objectList.toString(), null, textToCheck);
+			});
+			if (j >= 0) {
+				this.doListCommand(mouseAction, objectList, j);
+			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -314,29 +309,18 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommandBasedOnText(MouseAction mouseAction, By parent, By childList, String textToCheck) {
-		this.seleniumWait.waitForListToBeVisible(childList);
-		List<WebElement> elements = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, childList);
-		int size = elements.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				String text = elements.get(j).getText().trim();
-				if (text.contains(textToCheck)) {
-					this.doListCommand(mouseAction, parent, childList, j);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\".", () -> {
+				this.seleniumWait.waitForListToBeVisible(childList);
+				List<WebElement> elements = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, childList);
+				return this.getListIndex(ValueAssertionAction.PARTIAL_TEXT, elements, parent.toString() + " > " + childList.toString(), null, textToCheck);
+			});
+			if (j >= 0) {
+				this.doListCommand(mouseAction, parent, childList, j);
+			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -351,30 +335,22 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommandBasedOnText(MouseAction mouseAction, By parentList, int parentIndex, By childList, String textToCheck) {
-		this.seleniumWait.waitForListToBeVisible(childList);
-		List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
-		List<WebElement> childElementList = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), childList);
-		int size = childElementList.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				String text = childElementList.get(j).getText().trim();
-				if (text.contains(textToCheck)) {
-					this.doListCommand(mouseAction, parentList, parentIndex, childList, j);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\".", () -> {
+				this.seleniumWait.waitForListToBeVisible(childList);
+				List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
+				if (parentElementList == null || parentElementList.size() <= parentIndex) {
+					return -1;
+				}
+				List<WebElement> childElementList = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), childList);
+				return this.getListIndex(ValueAssertionAction.PARTIAL_TEXT, childElementList, parentList.toString() + " > " + childList.toString(), null, textToCheck);
+			});
+			if (j >= 0) {
+				this.doListCommand(mouseAction, parentList, parentIndex, childList, j);
+			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -388,28 +364,17 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommandBasedOnAttributeValue(MouseAction mouseAction, By objectList, String attribute, String valueToCheck) {
-		List<WebElement> elements = this.seleniumWait.waitForListToBeVisible(objectList);
-		int size = elements.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				String text = elements.get(j).getAttribute(attribute).trim();
-				if (text.contains(valueToCheck)) {
-					this.doListCommand(mouseAction, objectList, j);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  objectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  objectList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			int j = this.retryForIndex(deadline, "I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  objectList.toString() + "\".", () -> {
+				List<WebElement> elements = this.seleniumWait.waitForListToBeVisible(objectList);
+				return this.getListIndex(ValueAssertionAction.PARTIAL_ATTRIBUTE, elements, objectList.toString(), attribute, valueToCheck);
+			});
+			if (j >= 0) {
+				this.doListCommand(mouseAction, objectList, j);
+			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -424,29 +389,18 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommandBasedOnAttributeValue(MouseAction mouseAction, By parent, By childList, String attribute, String valueToCheck) {
-		this.seleniumWait.waitForListToBeVisible(childList);
-		List<WebElement> elements = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, childList);
-		int size = elements.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				String text = elements.get(j).getAttribute(attribute).trim();
-				if (text.contains(valueToCheck)) {
-					this.doListCommand(mouseAction, parent, childList, j);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			int j = this.retryForIndex(deadline, "I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\".", () -> {
+				this.seleniumWait.waitForListToBeVisible(childList);
+				List<WebElement> elements = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, childList);
+				return this.getListIndex(ValueAssertionAction.PARTIAL_ATTRIBUTE, elements, parent.toString() + " > " + childList.toString(), attribute, valueToCheck);
+			});
+			if (j >= 0) {
+				this.doListCommand(mouseAction, parent, childList, j);
+			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -462,30 +416,22 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doListCommandBasedOnAttributeValue(MouseAction mouseAction, By parentList, int parentIndex, By childList, String attribute, String valueToCheck) {
-		this.seleniumWait.waitForListToBeVisible(childList);
-		List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
-		List<WebElement> childElementList = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), childList);
-		int size = childElementList.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				String text = childElementList.get(j).getAttribute(attribute).trim();
-				if (text.contains(valueToCheck)) {
-					this.doListCommand(mouseAction, parentList, childList, j);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			int j = this.retryForIndex(deadline, "I didn't see \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element List: \"" +  childList.toString() + "\".", () -> {
+				this.seleniumWait.waitForListToBeVisible(childList);
+				List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
+				if (parentElementList == null || parentElementList.size() <= parentIndex) {
+					return -1;
+				}
+				List<WebElement> childElementList = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), childList);
+				return this.getListIndex(ValueAssertionAction.PARTIAL_ATTRIBUTE, childElementList, parentList.toString() + " > " + childList.toString(), attribute, valueToCheck);
+			});
+			if (j >= 0) {
+				this.doListCommand(mouseAction, parentList, parentIndex, childList, j);
+			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -500,23 +446,15 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doTableCommand(MouseAction mouseAction, By parent, By rowObjectList, int rowIndex, By child) {
-		boolean actionPerformed = false;
-		WebElement parentElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElement = this.seleniumWait.waitForNestedObjectsToBePresent(parent, rowObjectList).get(rowIndex);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
-			actionPerformed = this.execute(mouseAction, childElement);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".", () -> {
+				WebElement parentElement = this.seleniumWait.waitForNestedObjectsToBePresent(parent, rowObjectList).get(rowIndex);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
+				return this.execute(mouseAction, childElement, parent.toString() + " > " + rowObjectList.toString() + " > " + child.toString());
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -532,25 +470,16 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doTableCommand(MouseAction mouseAction, By parentList, int parentIndex, By rowObjectList, int rowIndex, By child) {
-		boolean actionPerformed = false;
-		List<WebElement> parentElementList = null;
-		List<WebElement> rowElementList = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
-			rowElementList = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), rowObjectList);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(rowElementList.get(rowIndex), child);
-			actionPerformed = this.execute(mouseAction, childElement);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(mouseAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parentList.toString() + "\".", () -> {
+				List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBePresent(parentList);
+				List<WebElement> rowElementList = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), rowObjectList);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(rowElementList.get(rowIndex), child);
+				return this.execute(mouseAction, childElement, parentList.toString() + " > " + rowObjectList.toString() + " > " + child.toString());
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -565,29 +494,15 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doTableCommandBasedOnText(MouseAction mouseAction, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToDoActionTo) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckText, j);
-				String text = elementToCheckText.getText().trim();
-				if (text.contains(textToCheck)) {
-					this.doBasicCommand(mouseAction, rowObjectList, j, rowObjectToDoActionTo);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(null, rowObjectList, rowObjectToCheckText, null, textToCheck));
+			if (j >= 0) {
+				this.doBasicCommand(mouseAction, rowObjectList, j, rowObjectToDoActionTo);
 			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -603,30 +518,16 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doTableCommandBasedOnText(MouseAction mouseAction, By parent, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToDoActionTo) {
-		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		List<WebElement> rows = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(parent, rowObjectList, rowObjectToCheckText, j);
-				String text = elementToCheckText.getText().trim();	
-				if (text.contains(textToCheck)) {
-					this.doTableCommand(mouseAction, parent, rowObjectList, j, rowObjectToDoActionTo);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			this.seleniumWait.waitForNestedObjectsToBeVisible(parent, rowObjectList);
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(this.seleniumWait.waitForObjectToBePresent(parent), rowObjectList, rowObjectToCheckText, null, textToCheck));
+			if (j >= 0) {
+				this.doTableCommand(mouseAction, parent, rowObjectList, j, rowObjectToDoActionTo);
+			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -643,31 +544,15 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doTableCommandBasedOnText(MouseAction mouseAction, By parentList, int parentIndex, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToDoActionTo) {
-		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		List<WebElement> parentElement = this.seleniumWait.waitForObjectsToBePresent(parentList);
-		List<WebElement> rows = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElement.get(parentIndex), rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(parentElement.get(parentIndex), rowObjectList, rowObjectToCheckText, j);
-				String text = elementToCheckText.getText().trim();
-				if (text.contains(textToCheck)) {
-					this.doTableCommand(mouseAction, parentList, parentIndex, rowObjectList, j, rowObjectToDoActionTo);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			int j = this.retryForIndex(deadline, "I didn't see the text \"" + textToCheck + "\" from the Web Element: \"" +  rowObjectToCheckText.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(parentList, parentIndex, rowObjectList, rowObjectToCheckText, null, textToCheck));
+			if (j >= 0) {
+				this.doTableCommand(mouseAction, parentList, parentIndex, rowObjectList, j, rowObjectToDoActionTo);
 			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -683,29 +568,15 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doTableCommandBasedOnAttributeValue(MouseAction mouseAction, By rowObjectList, By rowObjectToCheckAttributeValue, String attribute, String valueToCheck, By rowObjectToDoActionTo) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckAttributeValue, j);
-				String text = elementToCheckText.getAttribute(attribute).trim();
-				if (text.contains(valueToCheck)) {
-					this.doBasicCommand(mouseAction, rowObjectList, j, rowObjectToDoActionTo);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			int j = this.retryForIndex(deadline, "I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(null, rowObjectList, rowObjectToCheckAttributeValue, attribute, valueToCheck));
+			if (j >= 0) {
+				this.doBasicCommand(mouseAction, rowObjectList, j, rowObjectToDoActionTo);
 			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -722,30 +593,16 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doTableCommandBasedOnAttributeValue(MouseAction mouseAction, By parent, By rowObjectList, By rowObjectToCheckAttributeValue, String attribute, String valueToCheck, By rowObjectToDoActionTo) {
-		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		List<WebElement> rows = this.seleniumWait.waitForNestedObjectsToBeVisible(parent, rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(parent, rowObjectList, rowObjectToCheckAttributeValue, j);
-				String text = elementToCheckText.getAttribute(attribute).trim();
-				if (text.contains(valueToCheck)) {
-					this.doTableCommand(mouseAction, parent, rowObjectList, j, rowObjectToDoActionTo);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			this.seleniumWait.waitForNestedObjectsToBeVisible(parent, rowObjectList);
+			int j = this.retryForIndex(deadline, "I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(this.seleniumWait.waitForObjectToBePresent(parent), rowObjectList, rowObjectToCheckAttributeValue, attribute, valueToCheck));
+			if (j >= 0) {
+				this.doTableCommand(mouseAction, parent, rowObjectList, j, rowObjectToDoActionTo);
+			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
@@ -763,32 +620,60 @@ public class SeleniumMouseCommands extends SeleniumCommands {
 	 */
 	
 	void doTableCommandBasedOnAttributeValue(MouseAction mouseAction, By parentList, int parentIndex, By rowObjectList, By rowObjectToCheckAttributeValue, String attribute, String valueToCheck, By rowObjectToDoActionTo) {
-		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		List<WebElement> parentElementList = this.seleniumWait.waitForObjectsToBeVisible(parentList);
-		List<WebElement> rows = this.seleniumWait.waitForNestedObjectsToBeVisible(parentElementList.get(parentIndex), rowObjectList);
-		int size = rows.size();
-		boolean flgTextFound = false;
-		for(int i = 1; i <= 4; i++) {
-			for(int j = 0; j < size; j++) {
-				WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(parentElementList.get(parentIndex), rowObjectList, rowObjectToCheckAttributeValue, j);
-				String text = elementToCheckText.getAttribute(attribute).trim();
-				if (text.contains(valueToCheck)) {
-					this.doTableCommand(mouseAction, parentList, parentIndex, rowObjectList, j, rowObjectToDoActionTo);
-					flgTextFound = true;
-					break;
-				}
-			}
-			if (!flgTextFound) {
-				if(i < 4) {
-					this.log.debug("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\". Retrying " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".");
-				}
-			} else {
-				break;
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
+			int j = this.retryForIndex(deadline, "I didn't see the \"" + attribute + "\" attribute value \"" + valueToCheck + "\" from the Web Element: \"" +  rowObjectToCheckAttributeValue.toString() + "\" within one of the Rows of Web Element: \"" + rowObjectList.toString() + "\".", () -> this.getTableRowIndex(parentList, parentIndex, rowObjectList, rowObjectToCheckAttributeValue, attribute, valueToCheck));
+			if (j >= 0) {
+				this.doTableCommand(mouseAction, parentList, parentIndex, rowObjectList, j, rowObjectToDoActionTo);
 			}
+		} finally {
+			this.endStep();
 		}
 	}
 	
+	/**
+	 * Drags a Web Element and drops it on another Web Element.
+	 * 
+	 * @param sourceObject	Object to drag
+	 * @param targetObject	Object to drop the dragged Object to
+	 */
+	
+	void doDragAndDropCommand(By sourceObject, By targetObject) {
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\".", () -> this.dragAndDrop(sourceObject, targetObject));
+		} finally {
+			this.endStep();
+		}
+	}
+	
+	private boolean dragAndDrop(By sourceObject, By targetObject) {
+		boolean actionPerformed = false;
+		try {
+			WebElement sourceElement = this.seleniumWait.waitForObjectToBeClickable(sourceObject);
+			WebElement targetElement = this.seleniumWait.waitForObjectToBeClickable(targetObject);
+			this.seleniumWait.invalidatePage();
+			this.action.dragAndDrop(sourceElement, targetElement).perform();
+			actionPerformed = true;
+		} catch (NullPointerException e) {
+			this.recordFailure(e);
+			this.log.warn("Unable to perform \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\". Element created is NULL.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		} catch (StaleElementReferenceException e) {
+			this.recordFailure(e);
+			this.log.warn("Unable to perform \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\". The Web Element is no longer present in the Web Page.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		} catch (TimeoutException e) {
+			this.recordFailure(e);
+			this.log.warn("Unable to perform \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\". Wait time has expired.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		} catch (Exception e) {
+			this.recordFailure(e);
+			this.log.warn("Unable to perform \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\".");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+		return actionPerformed;
+	}
+	
 }
\ No newline at end of file
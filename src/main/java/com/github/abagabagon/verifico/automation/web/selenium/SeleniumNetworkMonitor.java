@@ -0,0 +1,202 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+/**
+ * Network activity of a Chromium Browser session observed through the Chrome DevTools Protocol. In-flight requests
+ * are tracked from <code>Network.requestWillBeSent</code>, <code>Network.loadingFinished</code> and
+ * <code>Network.loadingFailed</code>, and the Page lifecycle of the main frame from <code>Page.lifecycleEvent</code>.
+ * Waits block on these events instead of polling the Browser. The monitor is started with the Browser session so that
+ * requests and lifecycle events of the first Page are observed too.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumNetworkMonitor {
+
+	private Logger log;
+	private DevTools devTools;
+	private Set<String> inflightRequests;
+	private Object lock;
+	private volatile long lastActivity;
+	private volatile String lifecycleEvent;
+	private volatile String mainFrameId;
+	private Set<String> lifecycleEvents;
+	private boolean isAvailable;
+
+	private static final Function<JsonInput, Map<String, Object>> TO_MAP = input -> input.read(Json.MAP_TYPE);
+
+	SeleniumNetworkMonitor(WebDriver driver) {
+		this.log = LogManager.getLogger(this.getClass());
+		this.inflightRequests = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+		this.lifecycleEvents = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+		this.lock = new Object();
+		this.lastActivity = System.currentTimeMillis();
+		this.isAvailable = false;
+		if (driver instanceof HasDevTools && SeleniumDevTools.isAvailable(driver)) {
+			try {
+				this.devTools = ((HasDevTools) driver).getDevTools();
+				this.devTools.createSessionIfThereIsNotOne();
+				this.subscribe();
+				this.isAvailable = true;
+			} catch (Exception e) {
+				this.log.debug("Unable to start DevTools Network Monitor.");
+				this.log.debug(ExceptionUtils.getStackTrace(e));
+			}
+		}
+	}
+
+	/**
+	 * Checks if the Browser session supports the Chrome DevTools Protocol and is being monitored.
+	 *
+	 * @return <code>true</code> if network activity is being monitored.
+	 */
+
+	boolean isAvailable() {
+		return this.isAvailable;
+	}
+
+	private void subscribe() {
+		this.devTools.addListener(new Event<Map<String, Object>>("Network.requestWillBeSent", TO_MAP), event -> {
+			this.inflightRequests.add(String.valueOf(event.get("requestId")));
+			this.signal();
+		});
+		this.devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished", TO_MAP), event -> {
+			this.inflightRequests.remove(String.valueOf(event.get("requestId")));
+			this.signal();
+		});
+		this.devTools.addListener(new Event<Map<String, Object>>("Network.loadingFailed", TO_MAP), event -> {
+			this.inflightRequests.remove(String.valueOf(event.get("requestId")));
+			this.signal();
+		});
+		this.devTools.addListener(new Event<Map<String, Object>>("Page.lifecycleEvent", TO_MAP), event -> {
+			String name = String.valueOf(event.get("name"));
+			boolean isMainFrame = this.mainFrameId == null || this.mainFrameId.equals(String.valueOf(event.get("frameId")));
+			if (name.equals("init") && isMainFrame) {
+				this.inflightRequests.clear();
+				this.lifecycleEvents.clear();
+			}
+			if (isMainFrame) {
+				this.lifecycleEvents.add(name);
+			}
+			this.lifecycleEvent = name;
+			this.signal();
+		});
+		Map<String, Object> enabled = new HashMap<String, Object>();
+		enabled.put("enabled", true);
+		this.devTools.send(new Command<Void>("Network.enable", new HashMap<String, Object>()));
+		this.devTools.send(new Command<Void>("Page.enable", new HashMap<String, Object>()));
+		this.devTools.send(new Command<Void>("Page.setLifecycleEventsEnabled", enabled));
+		Map<String, Object> frameTree = this.devTools.send(new Command<Map<String, Object>>("Page.getFrameTree", new HashMap<String, Object>(), TO_MAP));
+		if (frameTree.get("frameTree") instanceof Map && ((Map<?, ?>) frameTree.get("frameTree")).get("frame") instanceof Map) {
+			this.mainFrameId = String.valueOf(((Map<?, ?>) ((Map<?, ?>) frameTree.get("frameTree")).get("frame")).get("id"));
+		}
+		this.log.debug("Started DevTools Network Monitor.");
+	}
+
+	private void signal() {
+		synchronized (this.lock) {
+			this.lastActivity = System.currentTimeMillis();
+			this.lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Waits until no more than the maximum number of requests have been in flight for the quiet period.
+	 *
+	 * @param quietMillis	Time in milliseconds the network must stay idle.
+	 * @param maxInflight	Maximum number of in-flight requests for the network to be idle.
+	 * @param timeoutMillis	Maximum time in milliseconds to wait.
+	 * @return <code>true</code> if the network became idle within the wait time.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+
+	boolean waitForNetworkIdle(long quietMillis, int maxInflight, long timeoutMillis) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		synchronized (this.lock) {
+			while (true) {
+				long now = System.currentTimeMillis();
+				long quietUntil = this.lastActivity + quietMillis;
+				if (this.inflightRequests.size() <= maxInflight && now >= quietUntil) {
+					return true;
+				}
+				if (now >= deadline) {
+					this.log.debug("Network is not idle. Requests in flight: " + this.inflightRequests.size() + ", last Page lifecycle event: " + this.lifecycleEvent + ".");
+					return false;
+				}
+				long wakeUp = this.inflightRequests.size() <= maxInflight ? Math.min(quietUntil, deadline) : deadline;
+				this.lock.wait(Math.max(1, wakeUp - now));
+			}
+		}
+	}
+
+	/**
+	 * Waits until the main frame of the current Page has reached a Page lifecycle event, such as <code>DOMContentLoaded</code>,
+	 * <code>load</code>, <code>networkAlmostIdle</code> or <code>networkIdle</code>. Events are tracked from the start of
+	 * the latest navigation, so an event already reached by the current Page returns right away.
+	 *
+	 * @param name			Name of the Page lifecycle event.
+	 * @param timeoutMillis	Maximum time in milliseconds to wait.
+	 * @return <code>true</code> if the Page reached the event within the wait time.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+
+	boolean waitForLifecycleEvent(String name, long timeoutMillis) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + timeoutMillis;
+		synchronized (this.lock) {
+			while (!this.lifecycleEvents.contains(name)) {
+				long now = System.currentTimeMillis();
+				if (now >= deadline) {
+					this.log.debug("Page did not reach \"" + name + "\". Page lifecycle events reached: " + this.lifecycleEvents + ".");
+					return false;
+				}
+				this.lock.wait(deadline - now);
+			}
+			return true;
+		}
+	}
+
+	int getInflightCount() {
+		return this.inflightRequests.size();
+	}
+
+	String getLifecycleEvent() {
+		return this.lifecycleEvent;
+	}
+
+	/**
+	 * Stops monitoring the network activity of the Browser session.
+	 */
+
+	void stop() {
+		if (!this.isAvailable) {
+			return;
+		}
+		this.isAvailable = false;
+		try {
+			this.devTools.clearListeners();
+			this.devTools.send(new Command<Void>("Network.disable", new HashMap<String, Object>()));
+		} catch (Exception e) {
+			this.log.debug("Encountered Exception while stopping DevTools Network Monitor.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+}
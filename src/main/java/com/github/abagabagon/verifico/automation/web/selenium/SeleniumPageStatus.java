@@ -0,0 +1,150 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.Map;
+
+import com.github.abagabagon.verifico.enums.PageLoadStrategy;
+
+/**
+ * Page readiness status returned by the readiness probe script in a single round trip
+ * <p>
+ * Network activity is counted by the fetch and XMLHttpRequest instrumentation of <code>NETWORK_SCRIPT</code>. On
+ * Chromium Browsers it is registered through <code>Page.addScriptToEvaluateOnNewDocument</code> when the session
+ * starts, so that it runs before the scripts of each Page. Otherwise the probe installs it lazily, and requests sent
+ * before the first probe on a Page are not counted.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumPageStatus {
+
+	static final String NETWORK_SCRIPT = "try { if (!window.__verificoNetwork) {"
+			+ "  var network = window.__verificoNetwork = { inflight: 0, lastActivity: 0 };"
+			+ "  var begin = function () { network.inflight++; network.lastActivity = Date.now(); };"
+			+ "  var end = function () { network.inflight = Math.max(0, network.inflight - 1); network.lastActivity = Date.now(); };"
+			+ "  if (window.fetch) { var originalFetch = window.fetch; window.fetch = function () { begin();"
+			+ "    try { return originalFetch.apply(this, arguments).then(function (r) { end(); return r; }, function (e) { end(); throw e; }); } catch (e) { end(); throw e; } }; }"
+			+ "  if (window.XMLHttpRequest) { var originalSend = window.XMLHttpRequest.prototype.send; window.XMLHttpRequest.prototype.send = function () {"
+			+ "    var isDone = false, finish = function () { if (!isDone) { isDone = true; end(); } }; begin(); this.addEventListener('loadend', finish);"
+			+ "    try { return originalSend.apply(this, arguments); } catch (e) { finish(); throw e; } }; }"
+			+ "} } catch (e) {}";
+
+	static final String PROBE_SCRIPT = NETWORK_SCRIPT
+			+ "var status = { readyState: document.readyState, jQueryActive: 0, angularPending: 0, angularStable: true, networkInflight: 0, networkIdleMillis: -1 };"
+			+ "if (window.__verificoNetwork) { status.networkInflight = window.__verificoNetwork.inflight;"
+			+ "  status.networkIdleMillis = window.__verificoNetwork.lastActivity > 0 ? Date.now() - window.__verificoNetwork.lastActivity : -1; }"
+			+ "if (!window.__verificoPageMarker) { window.__verificoPageMarker = Date.now() + '-' + Math.random(); }"
+			+ "status.pageMarker = window.__verificoPageMarker; status.url = window.location.href;"
+			+ "try { if (window.jQuery) { status.jQueryActive = window.jQuery.active; } } catch (e) {}"
+			+ "try { if (window.angular) { var injector = window.angular.element(document).injector();"
+			+ "  if (injector) { status.angularPending = injector.get('$http').pendingRequests.length; } } } catch (e) {}"
+			+ "try { if (window.getAllAngularTestabilities) {"
+			+ "  status.angularStable = window.getAllAngularTestabilities().every(function (t) { return t.isStable(); }); } } catch (e) {}"
+			+ "return status;";
+
+	private String readyState;
+	private long jQueryActive;
+	private long angularPending;
+	private boolean angularStable;
+	private String pageMarker;
+	private String url;
+	private long networkInflight;
+	private long networkIdleMillis;
+
+	SeleniumPageStatus(Object probeResult) {
+		this.readyState = "loading";
+		this.angularStable = true;
+		this.networkIdleMillis = -1;
+		if (probeResult instanceof Map) {
+			Map<?, ?> status = (Map<?, ?>) probeResult;
+			this.readyState = String.valueOf(status.get("readyState"));
+			this.jQueryActive = toLong(status.get("jQueryActive"));
+			this.angularPending = toLong(status.get("angularPending"));
+			this.angularStable = !Boolean.FALSE.equals(status.get("angularStable"));
+			this.pageMarker = String.valueOf(status.get("pageMarker"));
+			this.url = String.valueOf(status.get("url"));
+			this.networkInflight = toLong(status.get("networkInflight"));
+			this.networkIdleMillis = status.get("networkIdleMillis") instanceof Number ? toLong(status.get("networkIdleMillis")) : -1;
+		}
+	}
+
+	/**
+	 * Checks if the Page is ready for the Page Load Strategy of the session.
+	 *
+	 * @param pageLoadStrategy	Page Load Strategy of the session
+	 * @param quietMillis		Time in milliseconds without network activity for the network to be idle.
+	 * @return <code>true</code> if Document, jQuery, AngularJS, Angular and the network are all ready.
+	 */
+
+	boolean isReady(PageLoadStrategy pageLoadStrategy, long quietMillis) {
+		return this.isDocumentReady(pageLoadStrategy) && this.jQueryActive == 0 && this.angularPending == 0 && this.angularStable && this.isNetworkIdle(quietMillis);
+	}
+
+	/**
+	 * Checks if the fetch and XMLHttpRequest requests of the Page have settled. Requests started before the
+	 * instrumentation was injected into the Document are not counted.
+	 *
+	 * @param quietMillis Time in milliseconds without network activity for the network to be idle.
+	 * @return <code>true</code> if no request is in flight and none has ended within the quiet period.
+	 */
+
+	boolean isNetworkIdle(long quietMillis) {
+		return this.isNetworkIdle(quietMillis, 0);
+	}
+
+	boolean isNetworkIdle(long quietMillis, int maxInflight) {
+		return this.networkInflight <= maxInflight && (this.networkIdleMillis < 0 || this.networkIdleMillis >= quietMillis);
+	}
+
+	boolean isDocumentReady(PageLoadStrategy pageLoadStrategy) {
+		if (pageLoadStrategy == PageLoadStrategy.NORMAL) {
+			return this.readyState.equals("complete");
+		}
+		return !this.readyState.equals("loading");
+	}
+
+	String getReadyState() {
+		return this.readyState;
+	}
+
+	long getJQueryActive() {
+		return this.jQueryActive;
+	}
+
+	long getAngularPending() {
+		return this.angularPending;
+	}
+
+	boolean isAngularStable() {
+		return this.angularStable;
+	}
+
+	long getNetworkInflight() {
+		return this.networkInflight;
+	}
+
+	/**
+	 * Gets the marker injected into the current Document. A different marker means a new Document has been loaded.
+	 *
+	 * @return Page marker of the current Document
+	 */
+
+	String getPageMarker() {
+		return this.pageMarker;
+	}
+
+	String getUrl() {
+		return this.url;
+	}
+
+	@Override
+	public String toString() {
+		return "readyState: " + this.readyState + ", jQuery.active: " + this.jQueryActive + ", AngularJS pending requests: " + this.angularPending
+				+ ", Angular stable: " + this.angularStable + ", network requests in flight: " + this.networkInflight;
+	}
+
+	private static long toLong(Object value) {
+		return value instanceof Number ? ((Number) value).longValue() : 0;
+	}
+
+}
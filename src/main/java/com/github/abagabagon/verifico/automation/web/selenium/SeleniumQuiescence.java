@@ -0,0 +1,88 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import org.openqa.selenium.By;
+
+/**
+ * In-page quiescence detector for Lists and Tables. A MutationObserver is injected through an asynchronous script
+ * which returns once the elements matching a locator have stopped changing for a quiet window, including when no element
+ * matches for the whole quiet window, so that an empty List settles as empty instead of timing out. The locator is
+ * resolved in the Page by <code>FIND_FUNCTION</code>, using the locator type and value of <code>toScriptLocator</code>.
+ * <code>FIND_FUNCTION</code> finds all Web Elements matching a locator under a root, the Document or a Web Element,
+ * the way <code>findElements</code> does, and is shared by every in-page script that resolves locators.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumQuiescence {
+
+	static final String FIND_FUNCTION = "function find(root, type, value) {"
+			+ "  try {"
+			+ "    var all = function (selector) { return Array.prototype.slice.call(root.querySelectorAll(selector)); };"
+			+ "    var matches = function (test) { return Array.prototype.filter.call(root.getElementsByTagName('*'), test); };"
+			+ "    var canEscape = window.CSS && typeof window.CSS.escape === 'function';"
+			+ "    switch (type) {"
+			+ "    case 'id': return canEscape ? all('#' + window.CSS.escape(value)) : matches(function (e) { return e.id === value; });"
+			+ "    case 'name': return canEscape ? all('[name=\"' + window.CSS.escape(value) + '\"]') : matches(function (e) { return e.getAttribute('name') === value; });"
+			+ "    case 'className': return Array.prototype.slice.call(root.getElementsByClassName(value));"
+			+ "    case 'tagName': return Array.prototype.slice.call(root.getElementsByTagName(value));"
+			+ "    case 'cssSelector': return all(value);"
+			+ "    case 'xpath': var result = document.evaluate(value, root, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), nodes = [];"
+			+ "      for (var i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); } return nodes;"
+			+ "    }"
+			+ "  } catch (e) {}"
+			+ "  return [];"
+			+ "}";
+
+	static final String QUIESCENCE_SCRIPT = "var type = arguments[0], value = arguments[1], quietMillis = arguments[2], timeoutMillis = arguments[3];"
+			+ "var callback = arguments[arguments.length - 1];"
+			+ FIND_FUNCTION
+			+ "var elements = find(document, type, value), quietTimer = null, limitTimer = null, isDone = false;"
+			+ "function containers() { var parents = []; for (var i = 0; i < elements.length; i++) { var p = elements[i].parentNode || elements[i]; if (parents.indexOf(p) < 0) { parents.push(p); } } return parents; }"
+			+ "var watched = containers();"
+			+ "function finish(count) { if (isDone) { return; } isDone = true; observer.disconnect(); clearTimeout(quietTimer); clearTimeout(limitTimer); callback(count); }"
+			+ "function arm() { clearTimeout(quietTimer); quietTimer = setTimeout(function () { finish(elements.length); }, quietMillis); }"
+			+ "var observer = new MutationObserver(function (mutations) {"
+			+ "  var current = find(document, type, value), isRelevant = current.length !== elements.length;"
+			+ "  for (var i = 0; !isRelevant && i < mutations.length; i++) {"
+			+ "    for (var j = 0; j < watched.length; j++) { if (watched[j].contains(mutations[i].target)) { isRelevant = true; break; } }"
+			+ "  }"
+			+ "  elements = current; watched = containers();"
+			+ "  if (isRelevant) { arm(); }"
+			+ "});"
+			+ "observer.observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });"
+			+ "limitTimer = setTimeout(function () { finish(-1); }, timeoutMillis);"
+			+ "arm();";
+
+	private SeleniumQuiescence() {
+	}
+
+	/**
+	 * Converts a By Object into the locator type and value understood by the quiescence script.
+	 *
+	 * @param locator	By Object to convert.
+	 * @return Locator type and value, <code>null</code> if the locator type cannot be resolved in the page.
+	 */
+
+	static String[] toScriptLocator(By locator) {
+		String description = locator.toString();
+		int separator = description.indexOf(": ");
+		if (!description.startsWith("By.") || separator < 0) {
+			return null;
+		}
+		String type = description.substring(3, separator);
+		String value = description.substring(separator + 2);
+		switch (type) {
+		case "id":
+		case "name":
+		case "className":
+		case "tagName":
+		case "cssSelector":
+		case "xpath":
+			return new String[] { type, value };
+		default:
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.abagabagon.verifico.automation.web.selenium.SeleniumRetryPolicy.Decision;
+
+/**
+ * User Action retry metrics. Counts the retries of all sessions by Retry Policy decision and by exception, and the
+ * time spent backing off, so that flaky locators and the cost of retrying can be seen.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumRetryMetrics {
+
+	private static final AtomicLong retryNowCount = new AtomicLong();
+	private static final AtomicLong backoffCount = new AtomicLong();
+	private static final AtomicLong failFastCount = new AtomicLong();
+	private static final AtomicLong backoffMillis = new AtomicLong();
+	private static final Map<String, AtomicLong> exceptionCounts = new ConcurrentHashMap<String, AtomicLong>();
+
+	static void record(Decision decision, Throwable e, long millis) {
+		switch (decision) {
+		case RETRY_NOW:
+			retryNowCount.incrementAndGet();
+			break;
+		case RETRY_AFTER_BACKOFF:
+			backoffCount.incrementAndGet();
+			backoffMillis.addAndGet(millis);
+			break;
+		case FAIL_FAST:
+			failFastCount.incrementAndGet();
+			break;
+		}
+		String exception = e != null ? e.getClass().getSimpleName() : "None";
+		exceptionCounts.computeIfAbsent(exception, key -> new AtomicLong()).incrementAndGet();
+	}
+
+	/**
+	 * Gets the number of retries done right away.
+	 *
+	 * @return number of immediate retries
+	 */
+
+	public static long getRetryNowCount() {
+		return retryNowCount.get();
+	}
+
+	/**
+	 * Gets the number of retries done after a backoff.
+	 *
+	 * @return number of retries after backoff
+	 */
+
+	public static long getBackoffRetryCount() {
+		return backoffCount.get();
+	}
+
+	/**
+	 * Gets the number of User Actions that were not retried because their failure will not recover.
+	 *
+	 * @return number of failures not retried
+	 */
+
+	public static long getFailFastCount() {
+		return failFastCount.get();
+	}
+
+	/**
+	 * Gets the total time spent backing off before retries.
+	 *
+	 * @return total backoff time in milliseconds
+	 */
+
+	public static long getTotalBackoffMillis() {
+		return backoffMillis.get();
+	}
+
+	/**
+	 * Gets the number of classified failures by exception. Failures without an exception are counted as
+	 * <code>None</code>.
+	 *
+	 * @return number of classified failures by exception simple name
+	 */
+
+	public static Map<String, Long> getExceptionCounts() {
+		Map<String, Long> counts = new TreeMap<String, Long>();
+		for (Map.Entry<String, AtomicLong> entry : exceptionCounts.entrySet()) {
+			counts.put(entry.getKey(), entry.getValue().get());
+		}
+		return counts;
+	}
+
+	/**
+	 * Gets a one line summary of the User Action retry metrics.
+	 *
+	 * @return User Action retry metrics summary
+	 */
+
+	public static String getSummary() {
+		return "Retries now: " + getRetryNowCount() + ", retries after backoff: " + getBackoffRetryCount() + ", total backoff: " + getTotalBackoffMillis()
+				+ " ms, failed fast: " + getFailFastCount() + ", by exception: " + getExceptionCounts() + ".";
+	}
+
+	/**
+	 * Resets all User Action retry metrics.
+	 */
+
+	public static void reset() {
+		retryNowCount.set(0);
+		backoffCount.set(0);
+		failFastCount.set(0);
+		backoffMillis.set(0);
+		exceptionCounts.clear();
+	}
+
+}
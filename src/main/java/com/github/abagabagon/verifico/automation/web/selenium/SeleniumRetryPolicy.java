@@ -0,0 +1,118 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openqa.selenium.InvalidArgumentException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.support.ui.UnexpectedTagNameException;
+
+/**
+ * Retry policy of the User Actions. Classifies the exception of a failed attempt as <code>RETRY_NOW</code>,
+ * <code>RETRY_AFTER_BACKOFF</code> or <code>FAIL_FAST</code>, and computes the jittered exponential backoff before
+ * the next attempt. Extend it and set it through <code>setRetryPolicy()</code> to change how User Actions are retried.
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumRetryPolicy {
+
+	public enum Decision {
+		RETRY_NOW, RETRY_AFTER_BACKOFF, FAIL_FAST
+	}
+
+	private long baseMillis;
+	private long maxMillis;
+	private int maxAttempts;
+
+	/**
+	 * Creates the default Retry Policy. The backoff starts at <code>verifico.retry.baseMillis</code> (25 ms by default)
+	 * and doubles on each attempt up to <code>verifico.retry.maxMillis</code> (1000 ms by default). A User Action that
+	 * keeps failing with an exception is attempted up to <code>verifico.retry.maxAttempts</code> times (4 by default).
+	 */
+
+	public SeleniumRetryPolicy() {
+		this(Long.getLong("verifico.retry.baseMillis", 25L), Long.getLong("verifico.retry.maxMillis", 1000L), Integer.getInteger("verifico.retry.maxAttempts", 4));
+	}
+
+	/**
+	 * Creates a Retry Policy with the given backoff, attempting a User Action that keeps failing with an exception up
+	 * to 4 times.
+	 *
+	 * @param baseMillis	Backoff (Milliseconds) before the second attempt.
+	 * @param maxMillis		Maximum backoff (Milliseconds) between two attempts.
+	 */
+
+	public SeleniumRetryPolicy(long baseMillis, long maxMillis) {
+		this(baseMillis, maxMillis, 4);
+	}
+
+	/**
+	 * Creates a Retry Policy with the given backoff and attempt limit.
+	 *
+	 * @param baseMillis	Backoff (Milliseconds) before the second attempt.
+	 * @param maxMillis		Maximum backoff (Milliseconds) between two attempts.
+	 * @param maxAttempts	Maximum attempts of a User Action that keeps failing with an exception.
+	 */
+
+	public SeleniumRetryPolicy(long baseMillis, long maxMillis, int maxAttempts) {
+		this.baseMillis = Math.max(1, baseMillis);
+		this.maxMillis = Math.max(this.baseMillis, maxMillis);
+		this.maxAttempts = Math.max(1, maxAttempts);
+	}
+
+	/**
+	 * Classifies the exception of a failed attempt. A stale Web Element is resolved again right away, while invalid
+	 * locators, arguments or tags, closed sessions or windows, open alerts and script errors will not recover by
+	 * retrying. Any other failure is retried after the backoff.
+	 *
+	 * @param e	Exception of the failed attempt, <code>null</code> if the attempt failed without one.
+	 * @return Retry decision
+	 */
+
+	public Decision classify(Throwable e) {
+		if (e instanceof StaleElementReferenceException) {
+			return Decision.RETRY_NOW;
+		}
+		if (e instanceof InvalidSelectorException || e instanceof InvalidArgumentException || e instanceof UnexpectedTagNameException
+				|| e instanceof NoSuchSessionException || e instanceof NoSuchWindowException || e instanceof UnhandledAlertException
+				|| e instanceof UnsupportedCommandException || e instanceof JavascriptException || e instanceof IllegalArgumentException) {
+			return Decision.FAIL_FAST;
+		}
+		return Decision.RETRY_AFTER_BACKOFF;
+	}
+
+	/**
+	 * Checks if another attempt is allowed after a failed one. Attempts that failed with an exception are limited to
+	 * the maximum attempts of the policy. Attempts that failed without one, such as a Table Row that is not rendered
+	 * yet, are only limited by the step deadline.
+	 *
+	 * @param e			Exception of the failed attempt, <code>null</code> if the attempt failed without one.
+	 * @param attempt	Number of the failed attempt, starting at 1.
+	 * @return <code>true</code> if the User Action can be attempted again.
+	 */
+
+	public boolean isAttemptAllowed(Throwable e, int attempt) {
+		return e == null || attempt < this.maxAttempts;
+	}
+
+	/**
+	 * Gets the backoff before the next attempt: a random time between half and all of the exponential backoff of the
+	 * attempt, so that parallel sessions do not retry in lockstep.
+	 *
+	 * @param attempt	Number of the failed attempt, starting at 1.
+	 * @return Backoff in milliseconds
+	 */
+
+	public long getBackoffMillis(int attempt) {
+		long ceiling = Math.min(this.maxMillis, this.baseMillis << Math.min(Math.max(attempt - 1, 0), 20));
+		return ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1);
+	}
+
+}
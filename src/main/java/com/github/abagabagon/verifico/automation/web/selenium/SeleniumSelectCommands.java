@@ -26,6 +26,7 @@ public class SeleniumSelectCommands extends SeleniumCommands {
 	
 	boolean execute(SelectAction selectAction, WebElement element, String option) {
 		boolean actionPerformed = false;
+		this.seleniumWait.invalidatePage();
 		try {
 			Select select = new Select(element);
 			int size = select.getOptions().size();
@@ -50,15 +51,19 @@ public class SeleniumSelectCommands extends SeleniumCommands {
 			}
 			actionPerformed = true;
 		} catch (NullPointerException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(selectAction) + "\" for Web Element \"" + element.toString() + "\". Element created is NULL.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (StaleElementReferenceException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(selectAction) + "\" for Web Element \"" + element.toString() + "\". The Web Element is no longer present in the Web Page.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (UnexpectedTagNameException e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(selectAction) + "\" for Web Element \"" + element.toString() + "\". Element does not have a SELECT Tag.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (Exception e) {
+			this.recordFailure(e);
 			this.log.warn("Unable to perform \"" + String.valueOf(selectAction) + "\" for Web Element \"" + element.toString() + "\".");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
@@ -66,65 +71,42 @@ public class SeleniumSelectCommands extends SeleniumCommands {
 	}
 	
 	void executeSelectCommands(SelectAction selectAction, By locator, String option) {
-		boolean actionPerformed = false;
-		WebElement element = null;
-		for(int i = 1; i <= 4; i++) {
-			element = this.seleniumWait.waitForObjectToBeVisible(locator);
-			actionPerformed = this.execute(selectAction, element, option);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(selectAction) + "\" for Web Element \"" + locator.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(selectAction) + "\" for Web Element \"" + locator.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(selectAction) + "\" for Web Element \"" + locator.toString() + "\".", () -> {
+				WebElement element = this.seleniumWait.waitForObjectToBeVisible(locator);
+				return this.execute(selectAction, element, option);
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
 
 	
 	void executeSelectCommands(SelectAction selectAction, By parent, By child, String option) {
-		boolean actionPerformed = false;
-		WebElement parentElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElement = this.seleniumWait.waitForObjectToBeVisible(parent);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
-			actionPerformed = this.execute(selectAction, childElement, option);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(selectAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(selectAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(selectAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".", () -> {
+				WebElement parentElement = this.seleniumWait.waitForObjectToBeVisible(parent);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
+				return this.execute(selectAction, childElement, option);
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
 	void executeSelectCommands(SelectAction selectAction, By parent, By child, int index, String option) {
-		boolean actionPerformed = false;
-		WebElement parentElement = null;
-		WebElement childElement = null;
-		for(int i = 1; i <= 4; i++) {
-			parentElement = this.seleniumWait.waitForObjectsToBeVisible(parent).get(index);
-			childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
-			actionPerformed = this.execute(selectAction, childElement, option);
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(selectAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(selectAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".");
-				}
-			} else {
-				break;
-			}
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.retry(deadline, "Failed to perform User Action \"" + String.valueOf(selectAction) + "\" for Child Web Element \"" + child.toString() + "\" under Parent Web Element \"" + parent.toString() + "\".", () -> {
+				WebElement parentElement = this.seleniumWait.waitForObjectsToBeVisible(parent).get(index);
+				WebElement childElement = this.seleniumWait.waitForNestedObjectToBePresent(parentElement, child);
+				return this.execute(selectAction, childElement, option);
+			});
+		} finally {
+			this.endStep();
 		}
 	}
 	
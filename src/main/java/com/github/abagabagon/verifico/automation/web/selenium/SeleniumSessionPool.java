@@ -0,0 +1,376 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import com.github.abagabagon.verifico.enums.Browser;
+import com.github.abagabagon.verifico.enums.LaunchProfile;
+import com.github.abagabagon.verifico.enums.PageLoadStrategy;
+
+/**
+ * Pool of reusable Selenium Web Driver Sessions
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumSessionPool {
+
+	private Logger log;
+	private Browser browser;
+	private boolean isHeadless;
+	private LaunchProfile launchProfile;
+	private PageLoadStrategy pageLoadStrategy;
+	private int maxSize;
+	private long maxIdleMillis;
+	private Semaphore permits;
+	private ConcurrentLinkedDeque<PooledSession> idleSessions;
+	private ScheduledExecutorService evictor;
+	private volatile boolean isShutdown;
+
+	private static final String CLEAR_STORAGE_SCRIPT = "try { window.localStorage.clear(); } catch (e) {} try { window.sessionStorage.clear(); } catch (e) {}";
+
+	/**
+	 * Idle Web Driver Session kept by the pool
+	 */
+
+	private static class PooledSession {
+
+		private final WebDriver driver;
+		private final long lastReturned;
+
+		PooledSession(WebDriver driver) {
+			this.driver = driver;
+			this.lastReturned = System.currentTimeMillis();
+		}
+
+	}
+
+	/**
+	 * Pool of reusable Selenium Web Driver Sessions
+	 *
+	 * @param browser			Specific Web Browser of the pooled sessions.
+	 * @param isHeadless		<code>true</code> if pooled sessions are headless.
+	 * 							<code>false</code> if pooled sessions are not headless.
+	 * @param maxSize			Maximum number of sessions that can be checked out at the same time.
+	 * @param maxIdleSeconds	Number of seconds an idle session is kept before it is quit.
+	 */
+
+	public SeleniumSessionPool(Browser browser, boolean isHeadless, int maxSize, long maxIdleSeconds) {
+		this(browser, isHeadless, LaunchProfile.DEFAULT, maxSize, maxIdleSeconds);
+	}
+
+	/**
+	 * Pool of reusable Selenium Web Driver Sessions launched with a Launch Profile
+	 *
+	 * @param browser			Specific Web Browser of the pooled sessions.
+	 * @param isHeadless		<code>true</code> if pooled sessions are headless.
+	 * 							<code>false</code> if pooled sessions are not headless.
+	 * @param launchProfile		Launch Profile of the pooled sessions.
+	 * @param maxSize			Maximum number of sessions that can be checked out at the same time.
+	 * @param maxIdleSeconds	Number of seconds an idle session is kept before it is quit.
+	 */
+
+	public SeleniumSessionPool(Browser browser, boolean isHeadless, LaunchProfile launchProfile, int maxSize, long maxIdleSeconds) {
+		this(browser, isHeadless, launchProfile, PageLoadStrategy.NORMAL, maxSize, maxIdleSeconds);
+	}
+
+	/**
+	 * Pool of reusable Selenium Web Driver Sessions launched with a Launch Profile and Page Load Strategy
+	 *
+	 * @param browser			Specific Web Browser of the pooled sessions.
+	 * @param isHeadless		<code>true</code> if pooled sessions are headless.
+	 * 							<code>false</code> if pooled sessions are not headless.
+	 * @param launchProfile		Launch Profile of the pooled sessions.
+	 * @param pageLoadStrategy	Page Load Strategy of the pooled sessions.
+	 * @param maxSize			Maximum number of sessions that can be checked out at the same time.
+	 * @param maxIdleSeconds	Number of seconds an idle session is kept before it is quit.
+	 */
+
+	public SeleniumSessionPool(Browser browser, boolean isHeadless, LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy, int maxSize, long maxIdleSeconds) {
+		this.log = LogManager.getLogger(this.getClass());
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("Session Pool size must be at least 1.");
+		}
+		this.browser = browser;
+		this.isHeadless = isHeadless;
+		this.launchProfile = launchProfile;
+		this.pageLoadStrategy = pageLoadStrategy;
+		this.maxSize = maxSize;
+		this.maxIdleMillis = TimeUnit.SECONDS.toMillis(maxIdleSeconds);
+		this.permits = new Semaphore(maxSize, true);
+		this.idleSessions = new ConcurrentLinkedDeque<PooledSession>();
+		this.isShutdown = false;
+		if (maxIdleSeconds > 0) {
+			this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "verifico-session-pool-evictor");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.evictor.scheduleWithFixedDelay(this::evictIdleSessions, maxIdleSeconds, maxIdleSeconds, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Checks out a Web Driver Session from the pool. Idle sessions are reused when healthy, otherwise a new
+	 * session is launched. Blocks while the maximum number of sessions is checked out.
+	 *
+	 * @return Web Driver Session ready for use
+	 */
+
+	public WebDriver checkOut() {
+		this.log.trace("Checking out Web Driver Session from Session Pool.");
+		if (this.isShutdown) {
+			throw new IllegalStateException("Session Pool has already been shut down.");
+		}
+		try {
+			this.permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for an available Web Driver Session.", e);
+		}
+		try {
+			PooledSession session;
+			while ((session = this.idleSessions.pollFirst()) != null) {
+				if (this.isExpired(session)) {
+					this.log.debug("Idle Web Driver Session has expired. Quitting session.");
+					this.quit(session.driver);
+				} else if (this.isHealthy(session.driver)) {
+					this.log.debug("Reusing pooled Web Driver Session.");
+					return session.driver;
+				} else {
+					this.log.warn("Pooled Web Driver Session is no longer responsive. Replacing session.");
+					this.quit(session.driver);
+				}
+			}
+			this.log.debug("No idle Web Driver Session available. Launching new session.");
+			return new SeleniumWebDriver(this.launchProfile, this.pageLoadStrategy).getWebDriver(this.browser, this.isHeadless);
+		} catch (RuntimeException e) {
+			this.permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns a Web Driver Session to the pool. The session is reset by closing extra tabs, clearing cookies
+	 * and storage and navigating to <code>about:blank</code>. Sessions that fail to reset are quit.
+	 * <p>
+	 * Chromium Browsers clear the cookies of all domains and the storage of every origin in the navigation history
+	 * of the tabs. Other Browsers only clear the cookies and storage of the current Page.
+	 *
+	 * @param driver Web Driver Session previously checked out from the pool
+	 */
+
+	public void checkIn(WebDriver driver) {
+		this.log.trace("Returning Web Driver Session to Session Pool.");
+		if (driver == null) {
+			return;
+		}
+		try {
+			if (!this.isShutdown && this.reset(driver)) {
+				this.idleSessions.offerFirst(new PooledSession(driver));
+			} else {
+				this.quit(driver);
+			}
+		} finally {
+			this.permits.release();
+		}
+	}
+
+	/**
+	 * Quits idle sessions that have exceeded the maximum idle time.
+	 */
+
+	public void evictIdleSessions() {
+		Iterator<PooledSession> iterator = this.idleSessions.iterator();
+		while (iterator.hasNext()) {
+			PooledSession session = iterator.next();
+			if (this.isExpired(session) && this.idleSessions.removeFirstOccurrence(session)) {
+				this.log.debug("Evicting idle Web Driver Session.");
+				this.quit(session.driver);
+			}
+		}
+	}
+
+	/**
+	 * Quits all idle sessions and stops accepting new checkouts. Sessions still checked out are quit once returned.
+	 */
+
+	public void shutdown() {
+		this.log.debug("Shutting down Session Pool.");
+		this.isShutdown = true;
+		if (this.evictor != null) {
+			this.evictor.shutdownNow();
+		}
+		PooledSession session;
+		while ((session = this.idleSessions.pollFirst()) != null) {
+			this.quit(session.driver);
+		}
+	}
+
+	/**
+	 * Gets the number of idle sessions currently kept by the pool.
+	 *
+	 * @return number of idle sessions
+	 */
+
+	public int getIdleCount() {
+		return this.idleSessions.size();
+	}
+
+	/**
+	 * Gets the Launch Profile of the pooled sessions.
+	 *
+	 * @return Launch Profile of the pooled sessions
+	 */
+
+	public LaunchProfile getLaunchProfile() {
+		return this.launchProfile;
+	}
+
+	/**
+	 * Gets the maximum number of sessions of the pool.
+	 *
+	 * @return maximum number of sessions
+	 */
+
+	public int getMaxSize() {
+		return this.maxSize;
+	}
+
+	private boolean isExpired(PooledSession session) {
+		return this.maxIdleMillis > 0 && System.currentTimeMillis() - session.lastReturned > this.maxIdleMillis;
+	}
+
+	private boolean isHealthy(WebDriver driver) {
+		try {
+			driver.getWindowHandle();
+			return true;
+		} catch (Exception e) {
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+			return false;
+		}
+	}
+
+	private boolean reset(WebDriver driver) {
+		try {
+			Set<String> origins = new LinkedHashSet<String>();
+			List<String> tabs = new ArrayList<String>(driver.getWindowHandles());
+			for (int i = 1; i < tabs.size(); i++) {
+				driver.switchTo().window(tabs.get(i));
+				this.addVisitedOrigins(driver, origins);
+				driver.close();
+			}
+			driver.switchTo().window(tabs.get(0));
+			this.addVisitedOrigins(driver, origins);
+			if (!this.clearBrowserData(driver, origins)) {
+				((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+				driver.manage().deleteAllCookies();
+			}
+			driver.get("about:blank");
+			return true;
+		} catch (Exception e) {
+			this.log.warn("Unable to reset Web Driver Session. Session will not be reused.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+			return false;
+		}
+	}
+
+	/**
+	 * Adds the origins of the navigation history of the current tab. Only Chromium Browsers report the navigation
+	 * history.
+	 *
+	 * @param driver	Web Driver Session being reset.
+	 * @param origins	Visited origins.
+	 */
+
+	private void addVisitedOrigins(WebDriver driver, Set<String> origins) {
+		try {
+			Map<String, Object> history = SeleniumDevTools.send(driver, "Page.getNavigationHistory", new HashMap<String, Object>());
+			if (history == null || !(history.get("entries") instanceof List)) {
+				return;
+			}
+			for (Object entry : (List<?>) history.get("entries")) {
+				if (entry instanceof Map) {
+					String origin = this.getOrigin(String.valueOf(((Map<?, ?>) entry).get("url")));
+					if (origin != null) {
+						origins.add(origin);
+					}
+				}
+			}
+		} catch (Exception e) {
+			this.log.debug("Unable to get navigation history of Web Driver Session.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+	private String getOrigin(String url) {
+		try {
+			URI uri = new URI(url);
+			if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null) {
+				return null;
+			}
+			return uri.getScheme().toLowerCase() + "://" + uri.getHost().toLowerCase() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+		} catch (URISyntaxException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Clears the cookies of all domains and the storage of the visited origins through the Chrome DevTools Protocol.
+	 * Other Browsers can only clear the cookies and storage of the current Page, so storage of other visited origins
+	 * is kept by their pooled sessions.
+	 *
+	 * @param driver	Web Driver Session being reset.
+	 * @param origins	Origins to clear storage of.
+	 * @return <code>true</code> if the Browser data was cleared through the Chrome DevTools Protocol.
+	 */
+
+	private boolean clearBrowserData(WebDriver driver, Set<String> origins) {
+		try {
+			if (SeleniumDevTools.send(driver, "Network.clearBrowserCookies", new HashMap<String, Object>()) == null) {
+				return false;
+			}
+			for (String origin : origins) {
+				Map<String, Object> params = new HashMap<String, Object>();
+				params.put("origin", origin);
+				params.put("storageTypes", "all");
+				SeleniumDevTools.send(driver, "Storage.clearDataForOrigin", params);
+			}
+			this.log.debug("Cleared cookies and storage of " + origins.size() + " origin(s) of Web Driver Session.");
+			return true;
+		} catch (Exception e) {
+			this.log.debug("Unable to clear Browser data through DevTools. Clearing cookies and storage of the current Page.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+			return false;
+		}
+	}
+
+	private void quit(WebDriver driver) {
+		try {
+			driver.quit();
+		} catch (Exception e) {
+			this.log.debug("Encountered Exception while quitting pooled Web Driver Session.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+	}
+
+}
@@ -0,0 +1,165 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.util.List;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.jsoup.nodes.Element;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+public class SeleniumSnapshotCommands extends SeleniumCommands {
+
+	protected WebDriver driver;
+	protected Logger log;
+	private SeleniumWait seleniumWait;
+	private SeleniumDomSnapshot snapshot;
+	private String actualValue;
+
+	public SeleniumSnapshotCommands(WebDriver driver, SeleniumWait seleniumWait) {
+		super(driver, seleniumWait);
+		this.log = LogManager.getLogger(this.getClass());
+		this.driver = driver;
+		this.seleniumWait = seleniumWait;
+	}
+
+	/**
+	 * Captures the Snapshot used by the succeeding Snapshot commands, replacing the previous one.
+	 *
+	 * @param locator Object used to locate the container Web Element to capture, <code>null</code> for the whole Document.
+	 * @return <code>true</code> if the Snapshot was captured.
+	 */
+
+	boolean doCaptureCommand(By locator) {
+		SeleniumDeadline deadline = this.beginStep();
+		try {
+			this.snapshot = null;
+			return this.retry(deadline, "Failed to capture Snapshot.", () -> {
+				Object result = null;
+				try {
+					WebElement element = null;
+					if (locator != null) {
+						element = this.seleniumWait.waitForObjectToBePresent(locator);
+					} else {
+						this.seleniumWait.waitForPage();
+					}
+					result = ((JavascriptExecutor) this.driver).executeScript(SeleniumDomSnapshot.CAPTURE_SCRIPT, element);
+				} catch (WebDriverException e) {
+					this.recordFailure(e);
+					this.log.debug(ExceptionUtils.getStackTrace(e));
+				}
+				if (result instanceof List && !((List<?>) result).isEmpty() && ((List<?>) result).get(0) instanceof String) {
+					List<?> captured = (List<?>) result;
+					String description = locator != null ? "Snapshot of Web Element \"" + locator.toString() + "\"" : "Snapshot of the Document";
+					this.snapshot = new SeleniumDomSnapshot((String) captured.get(0), (String) captured.get(1), description, this.seleniumWait.getNavigationEpoch());
+					this.log.trace("Captured " + this.snapshot.toString() + ".");
+					return true;
+				}
+				return false;
+			});
+		} finally {
+			this.endStep();
+		}
+	}
+
+	/**
+	 * Discards the current Snapshot. The Snapshot commands fail until a new Snapshot is captured.
+	 */
+
+	void doClearCommand() {
+		if (this.snapshot != null) {
+			this.log.trace("Cleared " + this.snapshot.toString() + ".");
+		}
+		this.snapshot = null;
+	}
+
+	private List<Element> find(By locator) {
+		if (this.snapshot == null) {
+			this.log.error("No Snapshot has been captured. Take a Snapshot before using the Snapshot commands.");
+			return null;
+		}
+		if (this.snapshot.getNavigationEpoch() != this.seleniumWait.getNavigationEpoch()) {
+			this.log.warn("The Page has navigated since the " + this.snapshot.toString() + " was captured. Snapshot values may be outdated.");
+		}
+		try {
+			return this.snapshot.find(locator);
+		} catch (IllegalArgumentException e) {
+			this.log.error(e.getMessage());
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+			return null;
+		}
+	}
+
+	String doGetCommand(GetAction getAction, By locator, String attribute) {
+		List<Element> elements = this.find(locator);
+		if (elements == null || elements.isEmpty()) {
+			this.log.error("Web Element \"" + locator.toString() + "\" is not in the Snapshot.");
+			return null;
+		}
+		Element element = elements.get(0);
+		switch(getAction) {
+		case GET_TEXT:
+			return this.snapshot.getText(element);
+		case GET_ATTRIBUTE:
+			return this.snapshot.getAttribute(element, attribute);
+		case GET_DROPDOWN:
+			return this.snapshot.getSelectedOption(element);
+		default:
+			this.log.fatal("Unsupported Get Action.");
+			return null;
+		}
+	}
+
+	int doCountCommand(By locator) {
+		List<Element> elements = this.find(locator);
+		return elements != null ? elements.size() : 0;
+	}
+
+	boolean isDisplayed(By locator) {
+		List<Element> elements = this.find(locator);
+		boolean status = elements != null && !elements.isEmpty() && this.snapshot.isDisplayed(elements.get(0));
+		if(status) {
+			this.log.debug("I saw Web Element \"" + locator.toString() + "\" in the Snapshot.");
+		} else {
+			this.log.error("I didn't see Web Element \"" + locator.toString() + "\" in the Snapshot.");
+		}
+		return status;
+	}
+
+	boolean isEqual(ValueAssertionAction valueAssertionAction, By locator, String attribute, String expectedValue) {
+		boolean status = false;
+		switch(valueAssertionAction) {
+		case TEXT:
+		case PARTIAL_TEXT:
+			this.actualValue = this.doGetCommand(GetAction.GET_TEXT, locator, null);
+			break;
+		case ATTRIBUTE:
+		case PARTIAL_ATTRIBUTE:
+			this.actualValue = this.doGetCommand(GetAction.GET_ATTRIBUTE, locator, attribute);
+			break;
+		case DROPDOWN:
+		case PARTIAL_DROPDOWN:
+			this.actualValue = this.doGetCommand(GetAction.GET_DROPDOWN, locator, null);
+			break;
+		default:
+			this.log.fatal("Unsupported Value Assertion Action.");
+			return false;
+		}
+		if (this.actualValue != null) {
+			boolean isPartial = valueAssertionAction == ValueAssertionAction.PARTIAL_TEXT || valueAssertionAction == ValueAssertionAction.PARTIAL_ATTRIBUTE
+					|| valueAssertionAction == ValueAssertionAction.PARTIAL_DROPDOWN;
+			status = isPartial ? this.actualValue.contains(expectedValue) : this.actualValue.equals(expectedValue);
+		}
+		if(status) {
+			this.log.debug("I saw " + String.valueOf(valueAssertionAction) + " Value: \"" + expectedValue + "\" in the Snapshot.");
+		} else {
+			this.log.error("I didn't see " + String.valueOf(valueAssertionAction) + " Value: \"" + expectedValue + "\" in the Snapshot. Actual value is \"" + this.actualValue + "\".");
+		}
+		return status;
+	}
+
+}
@@ -71,18 +71,13 @@ public class SeleniumStateAssertionCommands extends SeleniumCommands {
 	}
 	
 	public boolean isElementStateSetAsFromNestedListBasedOnText(StateAssertionAction stateAssertionAction, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToCheckStateFrom) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
+		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
 		boolean status = false;
-		for(int i = 0; i < size; i++) {
-			WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckText, i);
-			String checkText = elementToCheckText.getText().trim();
-			if (checkText.contains(textToCheck)) {
-				WebElement elementToCheckStateFrom = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckStateFrom, i);
-				List<WebElement> elementsToCheckStateFrom = this.seleniumWait.waitForNestedObjectsToBeVisible(rowObjectList, rowObjectToCheckStateFrom, i);
-				status = this.isElementStateSetAs(stateAssertionAction, elementToCheckStateFrom, elementsToCheckStateFrom.size());
-				break;	
-			}
+		int i = this.getTableRowIndex(null, rowObjectList, rowObjectToCheckText, null, textToCheck);
+		if (i >= 0) {
+			WebElement elementToCheckStateFrom = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckStateFrom, i);
+			List<WebElement> elementsToCheckStateFrom = this.seleniumWait.waitForNestedObjectsToBeVisible(rowObjectList, rowObjectToCheckStateFrom, i);
+			status = this.isElementStateSetAs(stateAssertionAction, elementToCheckStateFrom, elementsToCheckStateFrom.size());
 		}
 		return status;
 	}
@@ -98,18 +93,13 @@ public class SeleniumStateAssertionCommands extends SeleniumCommands {
 	}
 	
 	public boolean isElementStateSetAsFromNestedListBasedOnAttributeValue(StateAssertionAction stateAssertionAction, By rowObjectList, By rowObjectToCheckAttributeValue, String attributeToCheck, String valueToCheck, By rowObjectToCheckStateFrom) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
+		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
 		boolean status = false;
-		for(int i = 0; i < size; i++) {
-			WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckAttributeValue, i);
-			String checkText = elementToCheckText.getText().trim();
-			if (checkText.contains(valueToCheck)) {
-				WebElement elementToCheckStateFrom = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckStateFrom, i);
-				List<WebElement> elementsToCheckStateFrom = this.seleniumWait.waitForNestedObjectsToBeVisible(rowObjectList, rowObjectToCheckStateFrom, i);
-				status = this.isElementStateSetAs(stateAssertionAction, elementToCheckStateFrom, elementsToCheckStateFrom.size());
-				break;	
-			}
+		int i = this.getTableRowIndex(null, rowObjectList, rowObjectToCheckAttributeValue, attributeToCheck, valueToCheck);
+		if (i >= 0) {
+			WebElement elementToCheckStateFrom = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckStateFrom, i);
+			List<WebElement> elementsToCheckStateFrom = this.seleniumWait.waitForNestedObjectsToBeVisible(rowObjectList, rowObjectToCheckStateFrom, i);
+			status = this.isElementStateSetAs(stateAssertionAction, elementToCheckStateFrom, elementsToCheckStateFrom.size());
 		}
 		return status;
 	}
@@ -0,0 +1,70 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+/**
+ * In-page Table and List queries. The Rows of a Table and the Child Web Element of each Row are resolved and matched
+ * by a single script through <code>SeleniumQuiescence.FIND_FUNCTION</code>, using the locator types and values of
+ * <code>SeleniumQuiescence.toScriptLocator</code>. The texts or attribute values of a Web Element List, and the cell
+ * values of a whole Table, are read by a single script as well.
+ *
+ * @author albagabagon
+ *
+ */
+
+class SeleniumTableQuery {
+
+	static final String VALUE_OF_FUNCTION = "function valueOf(element, attribute) {"
+			+ "  if (!attribute) { if (element.getClientRects().length === 0) { return ''; }"
+			+ "    return String(typeof element.innerText === 'string' ? element.innerText : element.textContent).trim(); }"
+			+ "  var property = element[attribute];"
+			+ "  if (property !== undefined && property !== null && typeof property !== 'object' && typeof property !== 'function') { return String(property); }"
+			+ "  return element.getAttribute(attribute);"
+			+ "}";
+
+	static final String ROW_INDEX_SCRIPT = "var scope = arguments[0] || document, rowType = arguments[1], rowValue = arguments[2],"
+			+ "  childType = arguments[3], childValue = arguments[4], attribute = arguments[5], expected = arguments[6];"
+			+ SeleniumQuiescence.FIND_FUNCTION
+			+ VALUE_OF_FUNCTION
+			+ "var rows = find(scope, rowType, rowValue);"
+			+ "for (var i = 0; i < rows.length; i++) {"
+			+ "  var children = find(rows[i], childType, childValue);"
+			+ "  if (children.length === 0) { continue; }"
+			+ "  var value = valueOf(children[0], attribute);"
+			+ "  if (value !== null && value !== undefined && String(value).trim().indexOf(expected) >= 0) { return i; }"
+			+ "}"
+			+ "return -1;";
+
+	static final String VALUES_SCRIPT = "var elements = arguments[0], attribute = arguments[1];"
+			+ VALUE_OF_FUNCTION
+			+ "var values = [];"
+			+ "for (var i = 0; i < elements.length; i++) {"
+			+ "  var value = valueOf(elements[i], attribute);"
+			+ "  values.push(value === null || value === undefined ? null : String(value));"
+			+ "}"
+			+ "return values;";
+
+	static final String TABLE_DATA_SCRIPT = "var rows = arguments[0], cells = arguments[1], attribute = arguments[2];"
+			+ SeleniumQuiescence.FIND_FUNCTION
+			+ VALUE_OF_FUNCTION
+			+ "function cellValue(element) {"
+			+ "  if (attribute) { return valueOf(element, attribute); }"
+			+ "  var tag = element.tagName.toLowerCase();"
+			+ "  if (tag === 'input' || tag === 'textarea') { return element.value; }"
+			+ "  if (tag === 'select') { var option = element.options[element.selectedIndex]; return option ? option.text.trim() : null; }"
+			+ "  return valueOf(element, null);"
+			+ "}"
+			+ "var data = [];"
+			+ "for (var i = 0; i < rows.length; i++) {"
+			+ "  var row = [];"
+			+ "  if (cells.length === 0) {"
+			+ "    for (var j = 0; j < rows[i].children.length; j++) { row.push(cellValue(rows[i].children[j])); }"
+			+ "  } else {"
+			+ "    for (var k = 0; k < cells.length; k++) { var found = find(rows[i], cells[k][0], cells[k][1]); row.push(found.length > 0 ? cellValue(found[0]) : null); }"
+			+ "  }"
+			+ "  data.push(row);"
+			+ "}"
+			+ "return data;";
+
+	private SeleniumTableQuery() {
+	}
+
+}
@@ -0,0 +1,142 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.github.abagabagon.verifico.enums.TimeoutCategory;
+
+/**
+ * Timeout budgets of a Web Automation session. Each wait uses the budget of its Timeout Category:
+ * <ul>
+ * <li><code>PAGE</code> - Page readiness, URL and Title waits.</li>
+ * <li><code>ELEMENT</code> - Web Element presence, visibility and clickability waits.</li>
+ * <li><code>LIST</code> - List, Table Row and multiple Web Element waits.</li>
+ * <li><code>VALUE</code> - Text, Value, Attribute, Selection State and Count waits.</li>
+ * <li><code>NEGATIVE</code> - Web Element invisibility waits used by negative verifications.</li>
+ * <li><code>STEP</code> - Whole User Action, shared by all of its retries and nested waits. Never smaller than the
+ * other budgets unless set last.</li>
+ * </ul>
+ * The Implicit Wait defaults to 0, so that only the budgets above apply. Defaults can be changed through the
+ * <code>verifico.timeout.&lt;category&gt;</code> and <code>verifico.timeout.implicit</code> System Properties
+ * (in seconds).
+ *
+ * @author albagabagon
+ *
+ */
+
+public class SeleniumTimeouts {
+
+	private Map<TimeoutCategory, Duration> budgets;
+	private Duration implicitWait;
+
+	public SeleniumTimeouts() {
+		this.budgets = new EnumMap<TimeoutCategory, Duration>(TimeoutCategory.class);
+		this.budgets.put(TimeoutCategory.PAGE, getDefault(TimeoutCategory.PAGE, 30));
+		this.budgets.put(TimeoutCategory.ELEMENT, getDefault(TimeoutCategory.ELEMENT, 15));
+		this.budgets.put(TimeoutCategory.LIST, getDefault(TimeoutCategory.LIST, 15));
+		this.budgets.put(TimeoutCategory.VALUE, getDefault(TimeoutCategory.VALUE, 15));
+		this.budgets.put(TimeoutCategory.NEGATIVE, getDefault(TimeoutCategory.NEGATIVE, 5));
+		this.budgets.put(TimeoutCategory.STEP, getDefault(TimeoutCategory.STEP, 30));
+		this.raiseStepBudget(this.getLargestBudget());
+		this.implicitWait = Duration.ofSeconds(Long.getLong("verifico.timeout.implicit", 0L));
+	}
+
+	/**
+	 * Sets the timeout budget of a Timeout Category. Since every wait of a step is limited to the remaining
+	 * <code>STEP</code> budget, the <code>STEP</code> budget is raised to any larger budget set for another Timeout
+	 * Category. Set <code>STEP</code> last to deliberately cut the waits of a step shorter.
+	 *
+	 * @param category	Timeout Category to set.
+	 * @param budget	Timeout budget of the Timeout Category.
+	 */
+
+	public synchronized void setBudget(TimeoutCategory category, Duration budget) {
+		if (budget == null || budget.isNegative()) {
+			throw new IllegalArgumentException("Timeout budget of " + category + " must not be negative.");
+		}
+		this.budgets.put(category, budget);
+		if (category != TimeoutCategory.STEP) {
+			this.raiseStepBudget(budget);
+		}
+	}
+
+	/**
+	 * Gets the timeout budget of a Timeout Category.
+	 *
+	 * @param category Timeout Category to get.
+	 * @return Timeout budget of the Timeout Category
+	 */
+
+	public synchronized Duration getBudget(TimeoutCategory category) {
+		return this.budgets.get(category);
+	}
+
+	/**
+	 * Gets the largest timeout budget of all Timeout Categories.
+	 *
+	 * @return Largest timeout budget
+	 */
+
+	public synchronized Duration getLargestBudget() {
+		Duration largest = Duration.ZERO;
+		for (Duration budget : this.budgets.values()) {
+			if (budget.compareTo(largest) > 0) {
+				largest = budget;
+			}
+		}
+		return largest;
+	}
+
+	/**
+	 * Sets the timeout budget of all positive Web Element waits (<code>ELEMENT</code>, <code>LIST</code> and
+	 * <code>VALUE</code>).
+	 *
+	 * @param budget Timeout budget of positive Web Element waits.
+	 */
+
+	public synchronized void setExplicitWait(Duration budget) {
+		this.setBudget(TimeoutCategory.ELEMENT, budget);
+		this.setBudget(TimeoutCategory.LIST, budget);
+		this.setBudget(TimeoutCategory.VALUE, budget);
+	}
+
+	/**
+	 * Sets the Implicit Wait of the Web Driver. An Implicit Wait of 0 is the explicit-only mode, where every Web
+	 * Element lookup returns immediately and only the timeout budgets apply.
+	 *
+	 * @param implicitWait Implicit Wait of the Web Driver.
+	 */
+
+	public synchronized void setImplicitWait(Duration implicitWait) {
+		if (implicitWait == null || implicitWait.isNegative()) {
+			throw new IllegalArgumentException("Implicit Wait must not be negative.");
+		}
+		this.implicitWait = implicitWait;
+	}
+
+	public synchronized Duration getImplicitWait() {
+		return this.implicitWait;
+	}
+
+	/**
+	 * Checks if only the timeout budgets apply.
+	 *
+	 * @return <code>true</code> if Implicit Wait is 0.
+	 */
+
+	public synchronized boolean isExplicitOnly() {
+		return this.implicitWait.isZero();
+	}
+
+	private void raiseStepBudget(Duration budget) {
+		if (budget.compareTo(this.budgets.get(TimeoutCategory.STEP)) > 0) {
+			this.budgets.put(TimeoutCategory.STEP, budget);
+		}
+	}
+
+	private static Duration getDefault(TimeoutCategory category, long seconds) {
+		return Duration.ofSeconds(Long.getLong("verifico.timeout." + category.name().toLowerCase(), seconds));
+	}
+
+}
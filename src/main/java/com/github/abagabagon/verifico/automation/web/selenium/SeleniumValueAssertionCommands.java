@@ -112,13 +112,26 @@ public class SeleniumValueAssertionCommands extends SeleniumCommands {
 	
 	private boolean isValueDisplayedFromList(ValueAssertionAction valueAssertionAction, By locator, String attribute, String searchValue) {
 		List<WebElement> elements = this.seleniumWait.waitForListToBeVisible(locator);
-		int size = elements.size();
 		boolean status = false;
-		for(int i = 0; i < size; i++) {
-			WebElement element = this.seleniumWait.waitForObjectToBeVisible(locator, i);
-			status = this.isValueDisplayed(valueAssertionAction, element, attribute, searchValue);
-			if (status) {
-				break;
+		boolean isText = valueAssertionAction == ValueAssertionAction.TEXT || valueAssertionAction == ValueAssertionAction.PARTIAL_TEXT;
+		boolean isAttribute = valueAssertionAction == ValueAssertionAction.ATTRIBUTE || valueAssertionAction == ValueAssertionAction.PARTIAL_ATTRIBUTE;
+		if (isText || isAttribute) {
+			boolean isExact = valueAssertionAction == ValueAssertionAction.TEXT || valueAssertionAction == ValueAssertionAction.ATTRIBUTE;
+			for (String value : this.getValues(elements, isText ? null : attribute)) {
+				this.actualValue = value;
+				if (value != null && (isExact ? value.equals(searchValue) : value.contains(searchValue))) {
+					status = true;
+					break;
+				}
+			}
+		} else {
+			int size = elements.size();
+			for(int i = 0; i < size; i++) {
+				WebElement element = this.seleniumWait.waitForObjectToBeVisible(locator, i);
+				status = this.isValueDisplayed(valueAssertionAction, element, attribute, searchValue);
+				if (status) {
+					break;
+				}
 			}
 		}
 		return status;
@@ -179,17 +192,12 @@ public class SeleniumValueAssertionCommands extends SeleniumCommands {
 	}
 	
 	public boolean isValueDisplayedFromNestedListBasedOnText(ValueAssertionAction valueAssertionAction, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToSeeTextFrom, String attribute, String searchValue) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
+		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
 		boolean status = false;
-		for(int i = 0; i < size; i++) {
-			WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckText, i);
-			String checkText = elementToCheckText.getText().trim();
-			if (checkText.contains(textToCheck)) {
-				WebElement elementToSeeTextFrom = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToSeeTextFrom, i);
-				status = this.isValueDisplayed(valueAssertionAction, elementToSeeTextFrom, attribute, searchValue);
-				break;	
-			}
+		int i = this.getTableRowIndex(null, rowObjectList, rowObjectToCheckText, null, textToCheck);
+		if (i >= 0) {
+			WebElement elementToSeeTextFrom = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToSeeTextFrom, i);
+			status = this.isValueDisplayed(valueAssertionAction, elementToSeeTextFrom, attribute, searchValue);
 		}
 		return status;
 	}
@@ -215,17 +223,12 @@ public class SeleniumValueAssertionCommands extends SeleniumCommands {
 	}
 	
 	public boolean isValueDisplayedFromNestedListBasedOnAttributeValue(ValueAssertionAction valueAssertionAction, By rowObjectList, By rowObjectToCheckAttributeValue, String attributeToCheck, String valueToCheck, By rowObjectToSeeTextFrom, String attribute, String searchValue) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
+		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
 		boolean status = false;
-		for(int i = 0; i < size; i++) {
-			WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckAttributeValue, i);
-			String checkText = elementToCheckText.getAttribute(attributeToCheck).trim();
-			if (checkText != null && checkText.contains(valueToCheck)) {
-				WebElement elementToSeeTextFrom = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToSeeTextFrom, i);
-				status = this.isValueDisplayed(valueAssertionAction, elementToSeeTextFrom, attribute, searchValue);
-				break;	
-			}
+		int i = this.getTableRowIndex(null, rowObjectList, rowObjectToCheckAttributeValue, attributeToCheck, valueToCheck);
+		if (i >= 0) {
+			WebElement elementToSeeTextFrom = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToSeeTextFrom, i);
+			status = this.isValueDisplayed(valueAssertionAction, elementToSeeTextFrom, attribute, searchValue);
 		}
 		return status;
 	}
@@ -251,22 +254,17 @@ public class SeleniumValueAssertionCommands extends SeleniumCommands {
 	}
 	
 	private boolean isListValueDisplayedFromNestedListBasedOnText(ValueAssertionAction valueAssertionAction, By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectListToSeeTextFrom, String attribute, String expectedValue) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
+		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
 		boolean status = false;
-		for(int i = 0; i < size; i++) {
-			WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckText, i);
-			String checkText = elementToCheckText.getText().trim();
-			if (checkText.contains(textToCheck)) {
-				List<WebElement> elementToSeeTextFrom = this.seleniumWait.waitForNestedObjectsToBeVisible(rowObjectList, rowObjectListToSeeTextFrom, i);
-				int listSize = elementToSeeTextFrom.size();
-				for(int j = 0; j < listSize; j++) {
-					status = this.isValueDisplayed(valueAssertionAction, elementToSeeTextFrom.get(j), attribute, expectedValue);
-					if(status) {
-						break;
-					}
+		int i = this.getTableRowIndex(null, rowObjectList, rowObjectToCheckText, null, textToCheck);
+		if (i >= 0) {
+			List<WebElement> elementToSeeTextFrom = this.seleniumWait.waitForNestedObjectsToBeVisible(rowObjectList, rowObjectListToSeeTextFrom, i);
+			int listSize = elementToSeeTextFrom.size();
+			for(int j = 0; j < listSize; j++) {
+				status = this.isValueDisplayed(valueAssertionAction, elementToSeeTextFrom.get(j), attribute, expectedValue);
+				if(status) {
+					break;
 				}
-				break;
 			}
 		}
 		return status;
@@ -293,22 +291,17 @@ public class SeleniumValueAssertionCommands extends SeleniumCommands {
 	}
 	
 	private boolean isListValueDisplayedFromNestedListBasedOnAttributeValue(ValueAssertionAction valueAssertionAction, By rowObjectList, By rowObjectToCheckAttributeValue, String attributeToCheck, String valueToCheck, By rowObjectListToSeeTextFrom, String attribute, String expectedValue) {
-		List<WebElement> rows = this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
-		int size = rows.size();
+		this.seleniumWait.waitForTableRowsToBeVisible(rowObjectList);
 		boolean status = false;
-		for(int i = 0; i < size; i++) {
-			WebElement elementToCheckText = this.seleniumWait.waitForNestedObjectToBeVisible(rowObjectList, rowObjectToCheckAttributeValue, i);
-			String checkText = elementToCheckText.getAttribute(attributeToCheck).trim();
-			if (checkText.contains(valueToCheck)) {
-				List<WebElement> elementToSeeTextFrom = this.seleniumWait.waitForNestedObjectsToBeVisible(rowObjectList, rowObjectListToSeeTextFrom, i);
-				int listSize = elementToSeeTextFrom.size();
-				for(int j = 0; j < listSize; j++) {
-					status = this.isValueDisplayed(valueAssertionAction, elementToSeeTextFrom.get(j), attribute, expectedValue);
-					if(status) {
-						break;
-					}
+		int i = this.getTableRowIndex(null, rowObjectList, rowObjectToCheckAttributeValue, attributeToCheck, valueToCheck);
+		if (i >= 0) {
+			List<WebElement> elementToSeeTextFrom = this.seleniumWait.waitForNestedObjectsToBeVisible(rowObjectList, rowObjectListToSeeTextFrom, i);
+			int listSize = elementToSeeTextFrom.size();
+			for(int j = 0; j < listSize; j++) {
+				status = this.isValueDisplayed(valueAssertionAction, elementToSeeTextFrom.get(j), attribute, expectedValue);
+				if(status) {
+					break;
 				}
-				break;
 			}
 		}
 		return status;
@@ -1,22 +1,35 @@
 package com.github.abagabagon.verifico.automation.web.selenium;
 
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 
+import com.github.abagabagon.verifico.automation.DriverNotInitializedException;
+import com.github.abagabagon.verifico.enums.PageLoadStrategy;
+import com.github.abagabagon.verifico.enums.TimeoutCategory;
+import com.github.abagabagon.verifico.enums.WaitEngine;
+
 /**
  * Wait commands for Selenium Implementation
  * 
@@ -28,214 +41,563 @@ public class SeleniumWait {
 
 	private Logger log;
 	private WebDriver driver;
-	private WebDriverWait wait;
+	private SeleniumTimeouts timeouts;
+	private SeleniumDeadline stepDeadline;
+	private int stepDepth;
 	private Alert alert;
-
-	public SeleniumWait(WebDriver driver, WebDriverWait wait) {
+	private PageLoadStrategy pageLoadStrategy;
+	private long navigationEpoch;
+	private String pageMarker;
+	private String pageUrl;
+	private String windowHandle;
+	private boolean isWindowChecked;
+	private volatile boolean isPageStable;
+	private long pageStableSince;
+	private long maxPageStableMillis;
+	private long listQuietMillis;
+	private long networkQuietMillis;
+	private long scriptTimeoutMillis;
+	private String networkScriptId;
+	private SeleniumNetworkMonitor networkMonitor;
+	private SeleniumElementCache elementCache;
+	private SeleniumRetryPolicy retryPolicy;
+	private WaitEngine waitEngine;
+
+	public SeleniumWait(WebDriver driver, SeleniumTimeouts timeouts) {
 		this.log = LogManager.getLogger(this.getClass());
-		if (driver == null || wait == null) {
-			this.log.fatal("WebDriver or WebDriverWait is NULL.");
-			System.exit(1);
+		if (driver == null || timeouts == null) {
+			this.log.fatal("WebDriver or Timeouts is NULL.");
+			throw new DriverNotInitializedException("WebDriver or Timeouts is NULL. Browser might not have been opened or initialized.");
 		} else {
 			this.driver = driver;
-			this.wait = wait;
+			this.timeouts = timeouts;
+			this.stepDepth = 0;
+			this.pageLoadStrategy = this.getPageLoadStrategy(driver);
+			this.navigationEpoch = 0;
+			this.isPageStable = false;
+			this.isWindowChecked = false;
+			this.maxPageStableMillis = Long.getLong("verifico.page.stableMillis", 5000L);
+			this.listQuietMillis = Long.getLong("verifico.list.quietMillis", 300L);
+			this.networkQuietMillis = Long.getLong("verifico.network.quietMillis", 500L);
+			this.scriptTimeoutMillis = 0;
+			this.waitEngine = WaitEngine.valueOf(System.getProperty("verifico.wait.engine", "POLLING").toUpperCase());
+			this.setElementCache(Boolean.getBoolean("verifico.element.cache"));
+			this.retryPolicy = new SeleniumRetryPolicy();
+			this.registerNetworkScript();
+			this.networkMonitor = new SeleniumNetworkMonitor(driver);
+		}
+	}
+	
+	/**
+	 * Registers the fetch and XMLHttpRequest instrumentation of the readiness probe to run before the scripts of every
+	 * new Document of the current tab, so that the Ajax requests a Page sends while loading are counted. Only Chromium
+	 * Browsers support this. Other Browsers and tabs opened later fall back to installing the instrumentation with the
+	 * first readiness probe on each Page, which misses the requests sent before that probe.
+	 */
+	
+	private void registerNetworkScript() {
+		try {
+			Map<String, Object> params = new HashMap<String, Object>();
+			params.put("source", SeleniumPageStatus.NETWORK_SCRIPT);
+			Map<String, Object> result = SeleniumDevTools.send(this.driver, "Page.addScriptToEvaluateOnNewDocument", params);
+			if (result != null && result.get("identifier") != null) {
+				this.networkScriptId = String.valueOf(result.get("identifier"));
+				this.log.trace("Registered network instrumentation for new Documents.");
+			}
+		} catch (Exception e) {
+			this.log.debug("Unable to register network instrumentation for new Documents. Installing it on readiness probe instead.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
 	}
 	
 	/**
-	 * Waits for Page to be fully loaded.
+	 * Sets the Wait Engine used by Web Element waits.
 	 * 
+	 * @param waitEngine	<code>POLLING</code> to poll the Web Element through WebDriverWait.
+	 * 						<code>EVENT</code> to wait for the Web Element in the Page through an asynchronous script.
+	 * 						<code>ADAPTIVE</code> to poll the Web Element based on its time-to-ready history.
 	 */
-
-	final void waitForPage() {
-		this.log.trace("Waiting for Page to fully load.");
-		this.waitForJS();
-		this.waitForAjax();
-		this.waitForJQuery();
-		this.waitForAngular();
+	
+	final void setWaitEngine(WaitEngine waitEngine) {
+		this.waitEngine = waitEngine;
+	}
+	
+	final WaitEngine getWaitEngine() {
+		return this.waitEngine;
 	}
 	
 	/**
-	 * Waits for JS to be fully loaded.
+	 * Enables or disables caching of the Web Elements resolved by the Web Element waits. A cached Web Element is reused
+	 * by succeeding waits on the same locator while the Navigation Epoch and Window Handle stay the same, after a
+	 * single staleness and state check.
 	 * 
-	 * @return <code>true</code> if JS is fully loaded.
-	 *         <code>false</code> if JS is not fully loaded.
+	 * @param isEnabled	<code>true</code> to cache resolved Web Elements.
 	 */
-
-	final boolean waitForJS() {
-		this.log.trace("Waiting for JS to fully load.");
-		boolean isLoaded = false;
+	
+	final void setElementCache(boolean isEnabled) {
+		if (!isEnabled) {
+			this.elementCache = null;
+		} else if (this.elementCache == null) {
+			this.elementCache = new SeleniumElementCache();
+		}
+	}
+	
+	/**
+	 * Sets the Retry Policy used by the User Actions of the session.
+	 * 
+	 * @param retryPolicy	Retry Policy to use, <code>null</code> for the default Retry Policy.
+	 */
+	
+	final void setRetryPolicy(SeleniumRetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy != null ? retryPolicy : new SeleniumRetryPolicy();
+	}
+	
+	final SeleniumRetryPolicy getRetryPolicy() {
+		return this.retryPolicy;
+	}
+	
+	/**
+	 * Gets the cached Web Element of the locator chain if it is still attached to the Document and satisfies the
+	 * condition. Stale Web Elements and Web Elements no longer satisfying the condition are removed from the cache.
+	 * 
+	 * @param key		Locator chain of the Web Element.
+	 * @param condition	<code>SeleniumEventWait</code> condition the Web Element must satisfy.
+	 * @return Cached Web Element, <code>null</code> if it has to be resolved again.
+	 */
+	
+	private WebElement getCachedElement(String key, String condition) {
+		if (this.elementCache == null) {
+			return null;
+		}
+		WebElement element = this.elementCache.get(key, this.navigationEpoch, this.windowHandle);
+		if (element == null) {
+			return null;
+		}
+		boolean isValid = false;
 		try {
-			JavascriptExecutor javascriptExecutor = (JavascriptExecutor) this.driver;
+			switch (condition) {
+			case SeleniumEventWait.VISIBLE:
+				isValid = element.isDisplayed();
+				break;
+			case SeleniumEventWait.CLICKABLE:
+				isValid = element.isDisplayed() && element.isEnabled();
+				break;
+			default:
+				isValid = element.getTagName() != null;
+			}
+		} catch (StaleElementReferenceException e) {
+			this.log.trace("Cached Web Element \"" + key + "\" is stale. Resolving Web Element again.");
+		} catch (WebDriverException e) {
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+		if (!isValid) {
+			this.elementCache.evict(key);
+			return null;
+		}
+		this.log.trace("Using cached Web Element \"" + key + "\" (" + this.elementCache + ").");
+		return element;
+	}
+	
+	private void cacheElement(String key, WebElement element) {
+		if (this.elementCache != null) {
+			this.elementCache.put(key, element, this.navigationEpoch, this.windowHandle);
+		}
+	}
+	
+	/**
+	 * Waits for the condition on the Web Element located by the locator. The <code>ADAPTIVE</code> Wait Engine polls
+	 * based on the time-to-ready history of the locator, other Wait Engines poll through WebDriverWait.
+	 * 
+	 * @param <T>		Type of the condition result.
+	 * @param category	Timeout Category of the wait.
+	 * @param locator	By Object used to locate element to wait for.
+	 * @param condition	Condition to wait for.
+	 * @return Result of the condition
+	 * @throws TimeoutException if the condition was not satisfied within the wait time.
+	 */
+	
+	private <T> T until(TimeoutCategory category, By locator, ExpectedCondition<T> condition) {
+		if (this.waitEngine != WaitEngine.ADAPTIVE) {
+			return this.getWait(category).until(condition);
+		}
+		long timeoutMillis = this.getBudget(category).toMillis();
+		long start = System.currentTimeMillis();
+		int polls = 0;
+		while (true) {
 			try {
-				Thread.sleep(20);
-				String script = "return document.readyState";  
-				ExpectedCondition<Boolean> jsLoad = drivera -> javascriptExecutor.executeScript(script).toString().equals("complete");
-				boolean jsReady = javascriptExecutor.executeScript(script).toString().equals("complete");
-				if (!jsReady) {
-					this.wait.until(jsLoad);
+				polls++;
+				T value = condition.apply(this.driver);
+				if (value != null && !Boolean.FALSE.equals(value)) {
+					long readyMillis = System.currentTimeMillis() - start;
+					SeleniumLatencyHistory.record(locator, readyMillis);
+					this.log.trace("Condition on " + locator + " was satisfied after " + readyMillis + " ms and " + polls + " poll(s).");
+					return value;
 				}
-				Thread.sleep(20);
+			} catch (NotFoundException e) {
+				this.log.trace("Web Element located by " + locator + " is not yet found.");
+			}
+			long elapsedMillis = System.currentTimeMillis() - start;
+			if (elapsedMillis >= timeoutMillis) {
+				throw new TimeoutException("Expected condition failed: " + condition + " (tried for " + elapsedMillis + " ms with " + polls + " poll(s))");
+			}
+			try {
+				Thread.sleep(Math.min(SeleniumLatencyHistory.getPollDelay(locator, elapsedMillis), timeoutMillis - elapsedMillis));
 			} catch (InterruptedException e) {
-				this.log.debug(ExceptionUtils.getStackTrace(e));
-			} catch (WebDriverException e) {
-				this.log.debug(ExceptionUtils.getStackTrace(e));
+				Thread.currentThread().interrupt();
+				throw new WebDriverException(e);
 			}
-			this.log.trace("JS successfully loaded!");
-		} catch (TimeoutException e) {
-			this.log.error("Wait time for JS to fully load has expired!");
-			this.log.debug(ExceptionUtils.getStackTrace(e));
-		} catch (Exception e) {
-			this.log.error("Encountered Exception while waiting for JS to fully load!");
-			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
-		return isLoaded;
 	}
 	
 	/**
-	 * Waits for Ajax to be fully loaded.
+	 * Waits for the Web Element to satisfy the condition using the <code>EVENT</code> Wait Engine.
 	 * 
-	 * @return <code>true</code> if Ajax is fully loaded.
-	 *         <code>false</code> if Ajax is not fully loaded.
+	 * @param category	Timeout Category of the wait.
+	 * @param locator	By Object used to locate element to wait for.
+	 * @param condition	Wait condition of <code>SeleniumEventWait</code>.
+	 * @param expected	Expected Text or Attribute Value, <code>null</code> if not applicable.
+	 * @param attribute	Attribute to compare, <code>null</code> if not applicable.
+	 * @return Web Element that satisfied the condition, <code>null</code> if the <code>POLLING</code> Wait Engine
+	 *         must be used instead.
+	 * @throws TimeoutException if the Web Element did not satisfy the condition within the wait time.
 	 */
-
-	final void waitForAjax() {
-		this.log.trace("Waiting for Ajax to fully load.");
+	
+	private WebElement waitForEvent(TimeoutCategory category, By locator, String condition, String expected, String attribute) {
+		if (this.waitEngine != WaitEngine.EVENT) {
+			return null;
+		}
+		String[] scriptLocator = SeleniumQuiescence.toScriptLocator(locator);
+		if (scriptLocator == null) {
+			return null;
+		}
+		long timeoutMillis = this.getBudget(category).toMillis();
+		long start = System.currentTimeMillis();
+		Object result;
+		this.applyScriptTimeout(timeoutMillis);
 		try {
-			JavascriptExecutor javascriptExecutor = (JavascriptExecutor) this.driver;
-			String script = "var callback = arguments[arguments.length - 1];" + "var xhr = new XMLHttpRequest();"
-					+ "xhr.open('GET', '/Ajax_call', true);" + "xhr.onreadystatechange = function() {"
-					+ "  if (xhr.readyState == 4) {" + "    callback(xhr.responseText);" + "  }" + "};" + "xhr.send();";  
-			javascriptExecutor.executeScript(script);
-			this.log.trace("Ajax successfully loaded!");
-		} catch (TimeoutException e) {
-			this.log.error("Wait time for Ajax to fully load has expired!");
-			this.log.debug(ExceptionUtils.getStackTrace(e));
-		} catch (Exception e) {
-			this.log.error("Encountered Exception while waiting for Ajax to fully load!");
+			result = ((JavascriptExecutor) this.driver).executeAsyncScript(SeleniumEventWait.EVENT_WAIT_SCRIPT, scriptLocator[0], scriptLocator[1], condition, expected, attribute, timeoutMillis);
+		} catch (ScriptTimeoutException e) {
+			throw new TimeoutException("Web Element located by " + locator + " was not " + condition + " within the Script Timeout.", e);
+		} catch (WebDriverException e) {
+			this.log.debug("Unable to wait for Web Element in the Page. Polling Web Element instead.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
+			return null;
+		}
+		if (!(result instanceof WebElement)) {
+			throw new TimeoutException("Web Element located by " + locator + " was not " + condition + " within " + timeoutMillis + " ms.");
 		}
+		this.log.trace("Web Element became " + condition + " after " + (System.currentTimeMillis() - start) + " ms.");
+		return (WebElement) result;
 	}
 	
 	/**
-	 * Waits for JQuery to be fully loaded.
+	 * Raises the Script Timeout of the Web Driver so that an asynchronous script can run for the whole wait time.
+	 * The Script Timeout is only ever raised, with a second of margin for the script to report its own timeout.
 	 * 
-	 * @return <code>true</code> if JQuery is fully loaded.
-	 *         <code>false</code> if JQuery is not fully loaded.
+	 * @param timeoutMillis	Wait time (Milliseconds) of the asynchronous script.
 	 */
-
-	final void waitForJQuery() {
-		this.log.trace("Waiting for JQuery to fully load.");
+	
+	final void applyScriptTimeout(long timeoutMillis) {
+		long scriptTimeoutMillis = timeoutMillis + 1000;
+		if (scriptTimeoutMillis <= this.scriptTimeoutMillis) {
+			return;
+		}
 		try {
-			JavascriptExecutor javascriptExecutor = (JavascriptExecutor) this.driver;
-			Boolean jQueryUndefined = (Boolean) javascriptExecutor.executeScript("return typeof jQuery === 'undefined'");
-			if(!jQueryUndefined) {
+			this.driver.manage().timeouts().setScriptTimeout(Duration.ofMillis(scriptTimeoutMillis));
+			this.scriptTimeoutMillis = scriptTimeoutMillis;
+			this.log.trace("Script Timeout set to " + scriptTimeoutMillis + " ms.");
+		} catch (WebDriverException e) {
+			this.log.debug("Unable to set Script Timeout.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		}
+	}
+	
+	/**
+	 * Starts a step. Waits within the step are limited to the remaining time of the step deadline. Steps started
+	 * while another step is running are part of that step and share its deadline.
+	 * 
+	 * @return Deadline of the running step
+	 */
+	
+	final SeleniumDeadline beginStep() {
+		if (this.stepDepth++ == 0) {
+			this.stepDeadline = new SeleniumDeadline(this.timeouts.getBudget(TimeoutCategory.STEP));
+		}
+		return this.stepDeadline;
+	}
+	
+	/**
+	 * Ends a step started by <code>beginStep()</code>.
+	 */
+	
+	final void endStep() {
+		if (this.stepDepth > 0 && --this.stepDepth == 0) {
+			this.stepDeadline = null;
+		}
+	}
+	
+	private Duration getBudget(TimeoutCategory category) {
+		Duration budget = this.timeouts.getBudget(category);
+		if (this.stepDeadline != null) {
+			Duration remaining = this.stepDeadline.getRemaining();
+			if (remaining.compareTo(budget) < 0) {
+				budget = remaining;
+			}
+		}
+		return budget;
+	}
+	
+	private WebDriverWait getWait(TimeoutCategory category) {
+		return new WebDriverWait(this.driver, this.getBudget(category));
+	}
+	
+	private PageLoadStrategy getPageLoadStrategy(WebDriver driver) {
+		PageLoadStrategy pageLoadStrategy = PageLoadStrategy.NORMAL;
+		if (driver instanceof HasCapabilities) {
+			Object capability = ((HasCapabilities) driver).getCapabilities().getCapability(CapabilityType.PAGE_LOAD_STRATEGY);
+			if (capability != null) {
 				try {
-					Thread.sleep(20);
-					String script = "return jQuery.active"; 
-					ExpectedCondition<Boolean> jQueryLoad = drivera -> ((Long) (javascriptExecutor.executeScript(script)) == 0);
-					boolean jqueryReady = (Boolean) javascriptExecutor.executeScript("return jQuery.active==0");
-					if (!jqueryReady) {
-						this.wait.until(jQueryLoad);
-					}
-					Thread.sleep(20);
-				} catch (InterruptedException e) {
-					this.log.debug(ExceptionUtils.getStackTrace(e));
-				} catch (WebDriverException e) {
-					this.log.debug(ExceptionUtils.getStackTrace(e));
+					pageLoadStrategy = PageLoadStrategy.valueOf(capability.toString().toUpperCase());
+				} catch (IllegalArgumentException e) {
+					this.log.debug("Unknown Page Load Strategy: \"" + capability + "\". Using NORMAL Page Load Strategy.");
 				}
 			}
-			this.log.trace("JQuery successfully loaded!");
+		}
+		this.log.trace("Page Load Strategy: " + pageLoadStrategy + ".");
+		return pageLoadStrategy;
+	}
+	
+	/**
+	 * Gets the Document, jQuery, AngularJS and Angular readiness of the Page in a single round trip.
+	 * 
+	 * @return Page readiness status
+	 */
+	
+	SeleniumPageStatus getPageStatus() {
+		return new SeleniumPageStatus(((JavascriptExecutor) this.driver).executeScript(SeleniumPageStatus.PROBE_SCRIPT));
+	}
+	
+	/**
+	 * Marks the Page as possibly changed after a User Action, so that the next Page wait probes the Page readiness again.
+	 */
+	
+	final void invalidatePage() {
+		this.isPageStable = false;
+	}
+	
+	/**
+	 * Marks the current Window as possibly changed after a Tab or Window switch, so that the next Page wait probes the
+	 * Page readiness and Window Handle again.
+	 */
+	
+	final void invalidateWindow() {
+		this.isPageStable = false;
+		this.isWindowChecked = false;
+	}
+	
+	/**
+	 * Gets the Navigation Epoch. The Navigation Epoch changes whenever a new Document, URL or Window is detected, and
+	 * stays the same while the Page is known to be stable.
+	 * 
+	 * @return Navigation Epoch
+	 */
+	
+	final long getNavigationEpoch() {
+		return this.navigationEpoch;
+	}
+	
+	/**
+	 * Gets the URL of the current Document, as of the last Page readiness check.
+	 * 
+	 * @return URL of the current Document, <code>null</code> if no Page has been checked yet.
+	 */
+	
+	final String getPageUrl() {
+		return this.pageUrl;
+	}
+	
+	/**
+	 * Checks if the Page is known to be stable, that is, it was found ready and no navigation or User Action has
+	 * happened since.
+	 * 
+	 * @return <code>true</code> if Page readiness check can be skipped.
+	 */
+	
+	final boolean isPageStable() {
+		return this.isPageStable && System.currentTimeMillis() - this.pageStableSince < this.maxPageStableMillis;
+	}
+	
+	/**
+	 * Waits for Page to be loaded based on the Page Load Strategy of the session. Document Ready State, jQuery,
+	 * AngularJS, Angular and network readiness are all checked by a single readiness probe, and only the probe is
+	 * polled. The probe injects the network instrumentation into every new Document.
+	 * The wait is skipped while the Page is known to be stable.
+	 * 
+	 */
+
+	final void waitForPage() {
+		if (this.isPageStable()) {
+			this.log.trace("Page is stable since last check. Skipping Page wait.");
+			return;
+		}
+		this.log.trace("Waiting for Page to fully load.");
+		long start = System.currentTimeMillis();
+		SeleniumPageStatus[] status = new SeleniumPageStatus[1];
+		int[] probes = new int[1];
+		ExpectedCondition<Boolean> pageReady = drivera -> {
+			probes[0]++;
+			status[0] = this.getPageStatus();
+			return status[0].isReady(this.pageLoadStrategy, this.networkQuietMillis);
+		};
+		try {
+			if (!pageReady.apply(this.driver)) {
+				this.getWait(TimeoutCategory.PAGE).until(pageReady);
+			}
+			this.updateNavigationEpoch(status[0]);
+			this.log.trace("Page successfully loaded in " + (System.currentTimeMillis() - start) + " ms after " + probes[0] + " readiness probe(s).");
 		} catch (TimeoutException e) {
-			this.log.error("Wait time for JQuery to fully load has expired!");
+			this.log.error("Wait time for Page to fully load has expired! " + status[0]);
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+		} catch (WebDriverException e) {
+			this.log.debug("Unable to probe Page readiness.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (Exception e) {
-			this.log.error("Encountered Exception while waiting for JQuery to fully load!");
+			this.log.error("Encountered Exception while waiting for Page to fully load!");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
 	}
 	
+	private void updateNavigationEpoch(SeleniumPageStatus status) {
+		boolean isWindowChanged = false;
+		if (!this.isWindowChecked) {
+			String currentWindowHandle = this.driver.getWindowHandle();
+			isWindowChanged = !currentWindowHandle.equals(this.windowHandle);
+			this.windowHandle = currentWindowHandle;
+			this.isWindowChecked = true;
+		}
+		if (isWindowChanged || !status.getPageMarker().equals(this.pageMarker) || !status.getUrl().equals(this.pageUrl)) {
+			this.navigationEpoch++;
+			this.pageMarker = status.getPageMarker();
+			this.pageUrl = status.getUrl();
+			this.log.trace("Detected navigation to \"" + this.pageUrl + "\". Navigation Epoch: " + this.navigationEpoch + ".");
+		}
+		this.isPageStable = true;
+		this.pageStableSince = System.currentTimeMillis();
+	}
+	
 	/**
-	 * Waits for Angular to be fully loaded.
+	 * Waits for the network to be idle. On Chromium Browsers the network activity is observed through the Chrome
+	 * DevTools Protocol without polling. Other Browsers fall back to the injected fetch and XMLHttpRequest
+	 * instrumentation of the readiness probe.
 	 * 
-	 * @return <code>true</code> if Angular is fully loaded.
-	 *         <code>false</code> if Angular is not fully loaded.
+	 * @param quietMillis	Time in milliseconds the network must stay idle.
+	 * @param maxInflight	Maximum number of in-flight requests for the network to be idle.
+	 * @return <code>true</code> if the network became idle within the wait time.
 	 */
-
-	final boolean waitForAngular() {
-		this.log.trace("Waiting for Angular to fully load.");
-		boolean isLoaded = false;
+	
+	final boolean waitForNetworkIdle(long quietMillis, int maxInflight) {
+		this.log.trace("Waiting for network to be idle.");
+		boolean isIdle = false;
 		try {
-			JavascriptExecutor javascriptExecutor = (JavascriptExecutor) this.driver;
-			Boolean angularUnDefined = (Boolean) javascriptExecutor.executeScript("return window.angular === undefined");
-			if(!angularUnDefined) {
-				try {
-					Thread.sleep(20);
-					String script = "return angular.element(document).injector().get('$http').pendingRequests.length === 0";  
-					ExpectedCondition<Boolean> angularLoad = drivera -> Boolean.valueOf(((JavascriptExecutor) this.driver).executeScript(script).toString());
-					boolean angularReady = Boolean.valueOf(javascriptExecutor.executeScript(script).toString());
-					if (!angularReady) {
-						this.wait.until(angularLoad);
-					}
-					Thread.sleep(20);
-				} catch (InterruptedException e) {
-					this.log.debug(ExceptionUtils.getStackTrace(e));
-				} catch (WebDriverException e) {
-					this.log.debug(ExceptionUtils.getStackTrace(e));
-				}
+			if (this.networkMonitor == null) {
+				this.networkMonitor = new SeleniumNetworkMonitor(this.driver);
+			}
+			if (this.networkMonitor.isAvailable()) {
+				isIdle = this.networkMonitor.waitForNetworkIdle(quietMillis, maxInflight, this.getBudget(TimeoutCategory.PAGE).toMillis());
+			} else {
+				ExpectedCondition<Boolean> networkIdle = drivera -> this.getPageStatus().isNetworkIdle(quietMillis, maxInflight);
+				isIdle = networkIdle.apply(this.driver) || this.getWait(TimeoutCategory.PAGE).until(networkIdle);
+			}
+			if (isIdle) {
+				this.log.trace("Network is idle!");
+			} else {
+				this.log.error("Wait time for network to be idle has expired!");
 			}
-			this.log.trace("Angular successfully loaded!");
 		} catch (TimeoutException e) {
-			this.log.error("Wait time for Angular to fully load has expired!");
+			this.log.error("Wait time for network to be idle has expired!");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.log.error("Interrupted while waiting for network to be idle!");
 		} catch (Exception e) {
-			this.log.error("Encountered Exception while waiting for Angular to fully load!");
+			this.log.error("Encountered Exception while waiting for network to be idle!");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
-		return isLoaded;
+		return isIdle;
 	}
 	
 	/**
-	 * Waits for Angular 5 to be fully loaded.
+	 * Waits for the current Page to reach a Page lifecycle event. On Chromium Browsers the lifecycle of the main frame
+	 * is observed through the Chrome DevTools Protocol. Other Browsers fall back to the Document Ready State for
+	 * <code>DOMContentLoaded</code> and <code>load</code>, and to the network idle wait for <code>networkAlmostIdle</code>
+	 * (2 requests in flight) and <code>networkIdle</code>.
 	 * 
-	 * @return <code>true</code> if Angular 5 is fully loaded.
-	 *         <code>false</code> if Angular 5 is not fully loaded.
+	 * @param name	Name of the Page lifecycle event.
+	 * @return <code>true</code> if the Page reached the event within the wait time.
 	 */
-
-	final void waitForAngular5() {
-		this.log.trace("Waiting for Angular to fully load.");
+	
+	final boolean waitForPageLifecycleEvent(String name) {
+		this.log.trace("Waiting for Page to reach \"" + name + "\".");
+		boolean isReached = false;
 		try {
-			JavascriptExecutor javascriptExecutor = (JavascriptExecutor) this.driver;
-			Object angular5Check = javascriptExecutor.executeScript("return getAllAngularRootElements()[0].attributes['ng-version']");
-			if(angular5Check != null) {
-				Boolean angularPageLoaded = (Boolean) javascriptExecutor.executeScript("return window.getAllAngularTestabilities().findIndex(x=>!x.isStable()) === -1");
-				if(!angularPageLoaded) {
-					try {
-						Thread.sleep(20);
-						String script = "return window.getAllAngularTestabilities().findIndex(x=>!x.isStable()) === -1";  
-						ExpectedCondition<Boolean> angularLoad = drivera -> Boolean.valueOf(((JavascriptExecutor) this.driver).executeScript(script).toString());
-						boolean angularReady = Boolean.valueOf(javascriptExecutor.executeScript(script).toString());
-						if (!angularReady) {
-							this.wait.until(angularLoad);
-						}
-						Thread.sleep(20);
-					} catch (InterruptedException e) {
-						this.log.debug(ExceptionUtils.getStackTrace(e));
-					} catch (WebDriverException e) {
-						this.log.debug(ExceptionUtils.getStackTrace(e));
-					}
+			if (this.networkMonitor != null && this.networkMonitor.isAvailable()) {
+				isReached = this.networkMonitor.waitForLifecycleEvent(name, this.getBudget(TimeoutCategory.PAGE).toMillis());
+			} else {
+				switch (name) {
+				case "DOMContentLoaded":
+					isReached = this.getWait(TimeoutCategory.PAGE).until(drivera -> !"loading".equals(((JavascriptExecutor) this.driver).executeScript("return document.readyState")));
+					break;
+				case "load":
+					isReached = this.getWait(TimeoutCategory.PAGE).until(drivera -> "complete".equals(((JavascriptExecutor) this.driver).executeScript("return document.readyState")));
+					break;
+				case "networkAlmostIdle":
+					return this.waitForNetworkIdle(this.networkQuietMillis, 2);
+				case "networkIdle":
+					return this.waitForNetworkIdle(this.networkQuietMillis, 0);
+				default:
+					this.log.error("Page lifecycle event \"" + name + "\" can only be waited for on Chromium Browsers.");
+					return false;
 				}
 			}
-			this.log.trace("Angular 5 successfully loaded!");
+			if (isReached) {
+				this.log.trace("Page reached \"" + name + "\"!");
+			} else {
+				this.log.error("Wait time for Page to reach \"" + name + "\" has expired!");
+			}
 		} catch (TimeoutException e) {
-			this.log.error("Wait time for Angular 5 to fully load has expired!");
+			this.log.error("Wait time for Page to reach \"" + name + "\" has expired!");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.log.error("Interrupted while waiting for Page to reach \"" + name + "\"!");
 		} catch (Exception e) {
-			this.log.error("Encountered Exception while waiting for Angular 5 to fully load!");
+			this.log.error("Encountered Exception while waiting for Page to reach \"" + name + "\"!");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
+		return isReached;
 	}
-
+	
+	/**
+	 * Releases the resources held by the waits of the Browser session.
+	 */
+	
+	final void close() {
+		if (this.networkScriptId != null) {
+			try {
+				Map<String, Object> params = new HashMap<String, Object>();
+				params.put("identifier", this.networkScriptId);
+				SeleniumDevTools.send(this.driver, "Page.removeScriptToEvaluateOnNewDocument", params);
+			} catch (Exception e) {
+				this.log.debug(ExceptionUtils.getStackTrace(e));
+			}
+			this.networkScriptId = null;
+		}
+		if (this.networkMonitor != null) {
+			this.networkMonitor.stop();
+			this.networkMonitor = null;
+		}
+	}
+	
 	/**
 	 * Waits for Page URL Value to be the same as expected value.
 	 * 
@@ -249,7 +611,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isUrlEqual = false;
 		try {
-			isUrlEqual = this.wait.until(ExpectedConditions.urlToBe(expectedUrl));
+			isUrlEqual = this.getWait(TimeoutCategory.PAGE).until(ExpectedConditions.urlToBe(expectedUrl));
 			this.log.trace("Page URL had matched the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Page URL to match the expected URL Value has expired!");
@@ -274,7 +636,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isUrlEqual = false;
 		try {
-			isUrlEqual = this.wait.until(ExpectedConditions.urlContains(expectedUrl));
+			isUrlEqual = this.getWait(TimeoutCategory.PAGE).until(ExpectedConditions.urlContains(expectedUrl));
 			this.log.trace("Page URL contains the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Page URL to contain the expected URL Value has expired!");
@@ -299,7 +661,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isTitleEqual = false;
 		try {
-			isTitleEqual = this.wait.until(ExpectedConditions.titleIs(expectedTitle));
+			isTitleEqual = this.getWait(TimeoutCategory.PAGE).until(ExpectedConditions.titleIs(expectedTitle));
 			this.log.trace("Page Title had matched the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Page Title to match the expected Title Value has expired!");
@@ -324,7 +686,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isTitleEqual = false;
 		try {
-			isTitleEqual = this.wait.until(ExpectedConditions.titleContains(expectedTitle));
+			isTitleEqual = this.getWait(TimeoutCategory.PAGE).until(ExpectedConditions.titleContains(expectedTitle));
 			this.log.trace("Page Title contains the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Page Title to contain the expected Title Value has expired!");
@@ -346,9 +708,16 @@ public class SeleniumWait {
 	final WebElement waitForObjectToBePresent(By locator) {
 		this.log.trace("Waiting for Web Element to be present.");
 		this.waitForPage();
-		WebElement element = null;
+		WebElement element = this.getCachedElement(locator.toString(), SeleniumEventWait.PRESENT);
+		if (element != null) {
+			return element;
+		}
 		try {
-			element = this.wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+			element = this.waitForEvent(TimeoutCategory.ELEMENT, locator, SeleniumEventWait.PRESENT, null, null);
+			if (element == null) {
+				element = this.until(TimeoutCategory.ELEMENT, locator, ExpectedConditions.presenceOfElementLocated(locator));
+			}
+			this.cacheElement(locator.toString(), element);
 			this.log.trace("Web Element had become present!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be present has expired!");
@@ -372,9 +741,16 @@ public class SeleniumWait {
 	final WebElement waitForObjectToBeVisible(By locator) {
 		this.log.trace("Waiting for Web Element to be visible.");
 		this.waitForPage();
-		WebElement element = null;
+		WebElement element = this.getCachedElement(locator.toString(), SeleniumEventWait.VISIBLE);
+		if (element != null) {
+			return element;
+		}
 		try {
-			element = this.wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+			element = this.waitForEvent(TimeoutCategory.ELEMENT, locator, SeleniumEventWait.VISIBLE, null, null);
+			if (element == null) {
+				element = this.until(TimeoutCategory.ELEMENT, locator, ExpectedConditions.visibilityOfElementLocated(locator));
+			}
+			this.cacheElement(locator.toString(), element);
 			this.log.trace("Web Element had become visible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be visible has expired!");
@@ -401,7 +777,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		WebElement element = null;
 		try {
-			element = this.wait.until(new ExpectedCondition<WebElement>() {
+			element = this.getWait(TimeoutCategory.ELEMENT).until(new ExpectedCondition<WebElement>() {
 				@Override
 				public WebElement apply(WebDriver driver) {
 					List<WebElement> elements = driver.findElements(locator);
@@ -433,7 +809,7 @@ public class SeleniumWait {
 		this.log.trace("Waiting for Web Element to be visible.");
 		this.waitForPage();
 		try {
-			element = this.wait.until(ExpectedConditions.visibilityOf(element));
+			element = this.getWait(TimeoutCategory.ELEMENT).until(ExpectedConditions.visibilityOf(element));
 			this.log.trace("Web Element had become visible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be visible has expired!");
@@ -458,9 +834,14 @@ public class SeleniumWait {
 	final WebElement waitForNestedObjectToBePresent(By parent, By child) {
 		this.log.trace("Waiting for Nested Web Element to be present.");
 		this.waitForPage();
-		WebElement element = null;
+		String key = parent.toString() + " > " + child.toString();
+		WebElement element = this.getCachedElement(key, SeleniumEventWait.PRESENT);
+		if (element != null) {
+			return element;
+		}
 		try {
-			element = this.wait.until(ExpectedConditions.presenceOfNestedElementLocatedBy(parent, child));
+			element = this.getWait(TimeoutCategory.ELEMENT).until(ExpectedConditions.presenceOfNestedElementLocatedBy(parent, child));
+			this.cacheElement(key, element);
 			this.log.trace("Nested Web Element had become present!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Nested Web Element to be present has expired!");
@@ -487,7 +868,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		WebElement element = null;
 		try {
-			element = this.wait.until(ExpectedConditions.presenceOfNestedElementLocatedBy(parent, child));
+			element = this.getWait(TimeoutCategory.ELEMENT).until(ExpectedConditions.presenceOfNestedElementLocatedBy(parent, child));
 			this.log.trace("Nested Web Element had become present!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Nested Web Element to be present has expired!");
@@ -515,7 +896,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		WebElement element = null;
 		try {
-			element = this.wait.until(new ExpectedCondition<WebElement>() {
+			element = this.getWait(TimeoutCategory.ELEMENT).until(new ExpectedCondition<WebElement>() {
 				@Override
 				public WebElement apply(WebDriver driver) {
 					List<WebElement> parentElement = driver.findElements(parentList);
@@ -551,7 +932,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		WebElement element = null;
 		try {
-			element = this.wait.until(new ExpectedCondition<WebElement>() {
+			element = this.getWait(TimeoutCategory.ELEMENT).until(new ExpectedCondition<WebElement>() {
 				@Override
 				public WebElement apply(WebDriver driver) {
 					WebElement ancestorElement = driver.findElement(ancestor);
@@ -588,7 +969,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		WebElement element = null;
 		try {
-			element = this.wait.until(new ExpectedCondition<WebElement>() {
+			element = this.getWait(TimeoutCategory.ELEMENT).until(new ExpectedCondition<WebElement>() {
 				@Override
 				public WebElement apply(WebDriver driver) {
 					List<WebElement> parentListElement = ancestorElement.findElements(parentList);
@@ -621,7 +1002,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> elements = null;
 		try {
-			elements = this.wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
+			elements = this.until(TimeoutCategory.LIST, locator, ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
 			this.log.trace("Web Element had become present!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Elements to be present has expired!");
@@ -648,7 +1029,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> elements = null;
 		try {
-			elements = this.wait.until(ExpectedConditions.presenceOfNestedElementsLocatedBy(parent, child));
+			elements = this.getWait(TimeoutCategory.LIST).until(ExpectedConditions.presenceOfNestedElementsLocatedBy(parent, child));
 			this.log.trace("Nested Web Element List had become present!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Nested Web Element List to be present has expired!");
@@ -675,7 +1056,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> elements = null;
 		try {
-			elements = this.wait.until(ExpectedConditions.visibilityOfNestedElementsLocatedBy(parent, child));
+			elements = this.getWait(TimeoutCategory.LIST).until(ExpectedConditions.visibilityOfNestedElementsLocatedBy(parent, child));
 			this.log.trace("Nested Web Element List had become visible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Nested Web Element List to be visible has expired!");
@@ -703,7 +1084,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> elements = null;
 		try {
-			elements = this.wait.until(new ExpectedCondition<List<WebElement>>() {
+			elements = this.getWait(TimeoutCategory.LIST).until(new ExpectedCondition<List<WebElement>>() {
 				@Override
 				public List<WebElement> apply(WebDriver driver) {
 					List<WebElement> parentElement = driver.findElements(parentList);
@@ -739,7 +1120,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> elements = null;
 		try {
-			elements = this.wait.until(new ExpectedCondition<List<WebElement>>() {
+			elements = this.getWait(TimeoutCategory.LIST).until(new ExpectedCondition<List<WebElement>>() {
 				@Override
 				public List<WebElement> apply(WebDriver driver) {
 					WebElement ancestorElement = driver.findElement(ancestor);
@@ -774,7 +1155,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> elements = null;
 		try {
-			elements = this.wait.until(ExpectedConditions.visibilityOfNestedElementsLocatedBy(parent, child));
+			elements = this.getWait(TimeoutCategory.LIST).until(ExpectedConditions.visibilityOfNestedElementsLocatedBy(parent, child));
 			this.log.trace("Nested Web Element List had become visible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Nested Web Element List to be visible has expired!");
@@ -803,7 +1184,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isVisible = true;
 		try {
-			isVisible = this.wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+			isVisible = this.getWait(TimeoutCategory.NEGATIVE).until(ExpectedConditions.invisibilityOfElementLocated(locator));
 			this.log.trace("Web Element had become invisible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be invisible has expired!");
@@ -830,7 +1211,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isVisible = true;
 		try {
-			isVisible = this.wait.until(ExpectedConditions.invisibilityOf(element));
+			isVisible = this.getWait(TimeoutCategory.NEGATIVE).until(ExpectedConditions.invisibilityOf(element));
 			this.log.trace("Web Element had become invisible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be invisible has expired!");
@@ -856,7 +1237,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> elements = null;
 		try {
-			elements = this.wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
+			elements = this.until(TimeoutCategory.LIST, locator, ExpectedConditions.visibilityOfAllElementsLocatedBy(locator));
 			this.log.trace("Web Element had become visible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be visible has expired!");
@@ -881,7 +1262,7 @@ public class SeleniumWait {
 		this.log.trace("Waiting for Web Element to be visible.");
 		this.waitForPage();
 		try {
-			elements = this.wait.until(ExpectedConditions.visibilityOfAllElements(elements));
+			elements = this.getWait(TimeoutCategory.LIST).until(ExpectedConditions.visibilityOfAllElements(elements));
 			this.log.trace("Web Element had become visible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be visible has expired!");
@@ -905,9 +1286,16 @@ public class SeleniumWait {
 	WebElement waitForObjectToBeClickable(By locator) {
 		this.log.trace("Waiting for Web Element to be clickable.");
 		this.waitForPage();
-		WebElement element = null;
+		WebElement element = this.getCachedElement(locator.toString(), SeleniumEventWait.CLICKABLE);
+		if (element != null) {
+			return element;
+		}
 		try {
-			element = this.wait.until(ExpectedConditions.elementToBeClickable(locator));
+			element = this.waitForEvent(TimeoutCategory.ELEMENT, locator, SeleniumEventWait.CLICKABLE, null, null);
+			if (element == null) {
+				element = this.until(TimeoutCategory.ELEMENT, locator, ExpectedConditions.elementToBeClickable(locator));
+			}
+			this.cacheElement(locator.toString(), element);
 			this.log.trace("Web Element had become clickable!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be clickable has expired!");
@@ -932,7 +1320,7 @@ public class SeleniumWait {
 		this.log.trace("Waiting for Web Element to be clickable.");
 		this.waitForPage();
 		try {
-			element = this.wait.until(ExpectedConditions.elementToBeClickable(element));
+			element = this.getWait(TimeoutCategory.ELEMENT).until(ExpectedConditions.elementToBeClickable(element));
 			this.log.trace("Web Element had become clickable!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Web Element to be clickable has expired!");
@@ -951,31 +1339,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> element = null;
 		try {
-			element = this.wait.until(new ExpectedCondition<List<WebElement>>() {
-				@Override
-				public List<WebElement> apply(WebDriver driver) {
-					List<WebElement> elements = null;
-					int count = 0;
-					int size = 0;
-					int previousSize = 0;
-					while(count != 10) {
-						elements = driver.findElements(locator);
-						size = elements.size();
-						if (size == previousSize) {
-							count++;
-						} else {
-							count = 0;
-						}
-						previousSize = size;
-						try {
-							Thread.sleep(100);
-						} catch (InterruptedException e) {
-							ExceptionUtils.getStackTrace(e);
-						}
-					}
-					return elements;
-				}
-			});
+			element = this.waitForObjectsToSettle(locator);
 			this.log.trace("List had become visible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for List to be visible has expired!");
@@ -994,31 +1358,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		List<WebElement> element = null;
 		try {
-			element = this.wait.until(new ExpectedCondition<List<WebElement>>() {
-				@Override
-				public List<WebElement> apply(WebDriver driver) {
-					List<WebElement> elements = null;
-					int count = 0;
-					int size = 0;
-					int previousSize = 0;
-					while(count != 10) {
-						elements = driver.findElements(locator);
-						size = elements.size();
-						if (size == previousSize) {
-							count++;
-						} else {
-							count = 0;
-						}
-						previousSize = size;
-						try {
-							Thread.sleep(100);
-						} catch (InterruptedException e) {
-							ExceptionUtils.getStackTrace(e);
-						}
-					}
-					return elements;
-				}
-			});
+			element = this.waitForObjectsToSettle(locator);
 			this.log.trace("Table Rows had become visible!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Table Rows to be visible has expired!");
@@ -1031,6 +1371,62 @@ public class SeleniumWait {
 		}
 		return element;
 	}
+	
+	/**
+	 * Waits for the Web Elements matching the locator to stop changing for the quiet window. The wait is done in the
+	 * Page by a MutationObserver, and falls back to polling the number of Web Elements when the locator type is not
+	 * supported by the in-page detector or the asynchronous script fails.
+	 * 
+	 * @param locator	By Object used to locate the Web Elements to wait for.
+	 * @return List of settled Web Elements, empty if no Web Element matched for the quiet window
+	 */
+	
+	private List<WebElement> waitForObjectsToSettle(By locator) {
+		String[] scriptLocator = SeleniumQuiescence.toScriptLocator(locator);
+		if (scriptLocator != null) {
+			long listTimeoutMillis = this.getBudget(TimeoutCategory.LIST).toMillis();
+			long start = System.currentTimeMillis();
+			this.applyScriptTimeout(listTimeoutMillis);
+			try {
+				Object count = ((JavascriptExecutor) this.driver).executeAsyncScript(SeleniumQuiescence.QUIESCENCE_SCRIPT, scriptLocator[0], scriptLocator[1], this.listQuietMillis, listTimeoutMillis);
+				if (count instanceof Number && ((Number) count).longValue() < 0) {
+					throw new TimeoutException("Web Elements located by " + locator + " did not settle within " + listTimeoutMillis + " ms.");
+				}
+				this.log.trace("Web Elements settled in " + (System.currentTimeMillis() - start) + " ms.");
+				return this.driver.findElements(locator);
+			} catch (TimeoutException e) {
+				throw e;
+			} catch (WebDriverException e) {
+				this.log.debug("Unable to wait for Web Elements to settle in the Page. Polling Web Elements instead.");
+				this.log.debug(ExceptionUtils.getStackTrace(e));
+			}
+		}
+		return this.getWait(TimeoutCategory.LIST).until(new ExpectedCondition<List<WebElement>>() {
+			@Override
+			public List<WebElement> apply(WebDriver driver) {
+				List<WebElement> elements = null;
+				int count = 0;
+				int size = 0;
+				int previousSize = 0;
+				while(count != 10) {
+					elements = driver.findElements(locator);
+					size = elements.size();
+					if (size == previousSize) {
+						count++;
+					} else {
+						count = 0;
+					}
+					previousSize = size;
+					try {
+						Thread.sleep(100);
+					} catch (InterruptedException e) {
+						ExceptionUtils.getStackTrace(e);
+					}
+				}
+				return elements;
+			}
+		});
+	}
 
 	/**
 	 * Waits for Text Box/Area Value to be the same as expected value.
@@ -1046,7 +1442,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.attributeToBe(locator, "value", expectedValue));
+			isValueEqual = this.waitForEvent(TimeoutCategory.VALUE, locator, SeleniumEventWait.ATTRIBUTE_TO_BE, expectedValue, "value") != null || this.until(TimeoutCategory.VALUE, locator, ExpectedConditions.attributeToBe(locator, "value", expectedValue));
 			this.log.trace("Text Box/Area Value had matched the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Box/Area Value to match the expected value has expired!");
@@ -1072,7 +1468,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.attributeToBe(element, "value", expectedValue));
+			isValueEqual = this.getWait(TimeoutCategory.VALUE).until(ExpectedConditions.attributeToBe(element, "value", expectedValue));
 			this.log.trace("Text Box/Area Value had matched the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Box/Area Value to match the expected value has expired!");
@@ -1098,7 +1494,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.attributeContains(locator, "value", expectedValue));
+			isValueEqual = this.waitForEvent(TimeoutCategory.VALUE, locator, SeleniumEventWait.ATTRIBUTE_TO_CONTAIN, expectedValue, "value") != null || this.until(TimeoutCategory.VALUE, locator, ExpectedConditions.attributeContains(locator, "value", expectedValue));
 			this.log.trace("Text Box/Area Value contains the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Box/Area Value to contain the expected value has expired!");
@@ -1124,7 +1520,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.attributeContains(element, "value", expectedValue));
+			isValueEqual = this.getWait(TimeoutCategory.VALUE).until(ExpectedConditions.attributeContains(element, "value", expectedValue));
 			this.log.trace("Text Box/Area Value contains the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Box/Area Value to contain the expected value has expired!");
@@ -1151,7 +1547,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.attributeToBe(locator, attribute, expectedValue));
+			isValueEqual = this.waitForEvent(TimeoutCategory.VALUE, locator, SeleniumEventWait.ATTRIBUTE_TO_BE, expectedValue, attribute) != null || this.until(TimeoutCategory.VALUE, locator, ExpectedConditions.attributeToBe(locator, attribute, expectedValue));
 			this.log.trace("Text Box/Area Value had matched the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Box/Area Value to match the expected value has expired!");
@@ -1178,7 +1574,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.attributeToBe(element, attribute, expectedValue));
+			isValueEqual = this.getWait(TimeoutCategory.VALUE).until(ExpectedConditions.attributeToBe(element, attribute, expectedValue));
 			this.log.trace("Text Box/Area Value had matched the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Box/Area Value to match the expected value has expired!");
@@ -1205,7 +1601,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.attributeContains(locator, attribute, expectedValue));
+			isValueEqual = this.waitForEvent(TimeoutCategory.VALUE, locator, SeleniumEventWait.ATTRIBUTE_TO_CONTAIN, expectedValue, attribute) != null || this.until(TimeoutCategory.VALUE, locator, ExpectedConditions.attributeContains(locator, attribute, expectedValue));
 			this.log.trace("Text Box/Area Value contains the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Box/Area Value to contain the expected value has expired!");
@@ -1232,7 +1628,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.attributeContains(element, attribute, expectedValue));
+			isValueEqual = this.getWait(TimeoutCategory.VALUE).until(ExpectedConditions.attributeContains(element, attribute, expectedValue));
 			this.log.trace("Text Box/Area Value contains the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Box/Area Value to contain the expected value has expired!");
@@ -1258,8 +1654,12 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			this.wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-			isValueEqual = this.wait.until(ExpectedConditions.textToBe(locator, expectedValue));
+			if (this.waitForEvent(TimeoutCategory.VALUE, locator, SeleniumEventWait.TEXT_TO_BE, expectedValue, null) != null) {
+				isValueEqual = true;
+			} else {
+				this.until(TimeoutCategory.VALUE, locator, ExpectedConditions.visibilityOfElementLocated(locator));
+				isValueEqual = this.until(TimeoutCategory.VALUE, locator, ExpectedConditions.textToBe(locator, expectedValue));
+			}
 			this.log.trace("Text Value had matched the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Value to match the expected value has expired!");
@@ -1285,7 +1685,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.textToBePresentInElement(element, expectedValue));
+			isValueEqual = this.getWait(TimeoutCategory.VALUE).until(ExpectedConditions.textToBePresentInElement(element, expectedValue));
 			this.log.trace("Text Value had matched the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Value to match the expected value has expired!");
@@ -1311,7 +1711,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, expectedValue));
+			isValueEqual = this.waitForEvent(TimeoutCategory.VALUE, locator, SeleniumEventWait.TEXT_TO_CONTAIN, expectedValue, null) != null || this.until(TimeoutCategory.VALUE, locator, ExpectedConditions.textToBePresentInElementLocated(locator, expectedValue));
 			this.log.trace("Text Value contains the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Value to contain the expected value has expired!");
@@ -1337,7 +1737,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isValueEqual = false;
 		try {
-			isValueEqual = this.wait.until(ExpectedConditions.textToBePresentInElement(element, expectedValue));
+			isValueEqual = this.getWait(TimeoutCategory.VALUE).until(ExpectedConditions.textToBePresentInElement(element, expectedValue));
 			this.log.trace("Text Value contains the expected value!");
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Text Value to contain the expected value has expired!");
@@ -1364,7 +1764,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean status = false;
 		try {
-			status = this.wait.until(ExpectedConditions.elementSelectionStateToBe(locator, expectedSelectionState));
+			status = this.until(TimeoutCategory.VALUE, locator, ExpectedConditions.elementSelectionStateToBe(locator, expectedSelectionState));
 			this.log.trace("Web Element Selection State is " + expectedSelectionState + "!");
 		} catch (TimeoutException e) {
 			this.log.error(
@@ -1393,7 +1793,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean status = false;
 		try {
-			status = this.wait.until(ExpectedConditions.elementSelectionStateToBe(element, expectedSelectionState));
+			status = this.getWait(TimeoutCategory.VALUE).until(ExpectedConditions.elementSelectionStateToBe(element, expectedSelectionState));
 			this.log.trace("Web Element Selection State is " + expectedSelectionState + "!");
 		} catch (TimeoutException e) {
 			this.log.error(
@@ -1421,7 +1821,7 @@ public class SeleniumWait {
 		this.waitForPage();
 		boolean isCountEqual = false;
 		try {
-			this.wait.until(new ExpectedCondition<Boolean>() {
+			this.getWait(TimeoutCategory.VALUE).until(new ExpectedCondition<Boolean>() {
 				@Override
 				public Boolean apply(WebDriver driver) {
 					int elementCount = driver.findElements(locator).size();
@@ -1451,7 +1851,7 @@ public class SeleniumWait {
 
 	final Alert waitForAlertToBePresent() {
 		try {
-			this.alert = this.wait.until(ExpectedConditions.alertIsPresent());
+			this.alert = this.getWait(TimeoutCategory.ELEMENT).until(ExpectedConditions.alertIsPresent());
 		} catch (TimeoutException e) {
 			this.log.error("Wait time for Alert to be displayed has expired!");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
@@ -2,6 +2,8 @@ package com.github.abagabagon.verifico.automation.web.selenium;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
 
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
@@ -11,13 +13,11 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.NoSuchWindowException;
-import org.openqa.selenium.StaleElementReferenceException;
-import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
+import com.github.abagabagon.verifico.automation.DriverNotInitializedException;
 import com.github.abagabagon.verifico.automation.web.WebAutomation;
 import com.github.abagabagon.verifico.automation.web.selenium.SeleniumCommands.BrowserAction;
 import com.github.abagabagon.verifico.automation.web.selenium.SeleniumCommands.GetAction;
@@ -28,6 +28,10 @@ import com.github.abagabagon.verifico.automation.web.selenium.SeleniumCommands.S
 import com.github.abagabagon.verifico.automation.web.selenium.SeleniumCommands.SwitchAction;
 import com.github.abagabagon.verifico.automation.web.selenium.SeleniumCommands.ValueAssertionAction;
 import com.github.abagabagon.verifico.enums.Browser;
+import com.github.abagabagon.verifico.enums.LaunchProfile;
+import com.github.abagabagon.verifico.enums.PageLoadStrategy;
+import com.github.abagabagon.verifico.enums.TimeoutCategory;
+import com.github.abagabagon.verifico.enums.WaitEngine;
 
 /**
  * Selenium implemented Web Automation Commands
@@ -45,8 +49,14 @@ public class SeleniumWebAutomation implements WebAutomation {
 	private ArrayList<String> tabs;
 	private Browser browser;
 	private boolean isHeadless;
+	private LaunchProfile launchProfile;
 	private SeleniumWebDriver seleniumWebDriver;
+	private SeleniumSessionPool sessionPool;
 	private SeleniumWait seleniumWait;
+	private WaitEngine waitEngine;
+	private Boolean isElementCacheEnabled;
+	private SeleniumRetryPolicy retryPolicy;
+	private SeleniumTimeouts timeouts;
 	
 	
 	private SeleniumCommands generalCommand;
@@ -57,20 +67,51 @@ public class SeleniumWebAutomation implements WebAutomation {
 	private SeleniumSelectCommands selectCommand;
 	private SeleniumValueAssertionCommands valueAssertionCommand;
 	private SeleniumStateAssertionCommands stateAssertionCommand;
+	private SeleniumBatchAssertionCommands batchAssertionCommand;
+	private SeleniumSnapshotCommands snapshotCommand;
 
 	
 	public SeleniumWebAutomation(Browser browser) {
 		this.log = LogManager.getLogger(this.getClass());
+		this.timeouts = new SeleniumTimeouts();
 		this.seleniumWebDriver = new SeleniumWebDriver();
 		this.browser = browser;
 		this.isHeadless = false;
+		this.launchProfile = LaunchProfile.DEFAULT;
 	}
 
 	public SeleniumWebAutomation(Browser browser, boolean isHeadless) {
 		this.log = LogManager.getLogger(this.getClass());
+		this.timeouts = new SeleniumTimeouts();
 		this.seleniumWebDriver = new SeleniumWebDriver();
 		this.browser = browser;
 		this.isHeadless = isHeadless;
+		this.launchProfile = LaunchProfile.DEFAULT;
+	}
+	
+	public SeleniumWebAutomation(Browser browser, boolean isHeadless, LaunchProfile launchProfile) {
+		this.log = LogManager.getLogger(this.getClass());
+		this.timeouts = new SeleniumTimeouts();
+		this.seleniumWebDriver = new SeleniumWebDriver(launchProfile);
+		this.browser = browser;
+		this.isHeadless = isHeadless;
+		this.launchProfile = launchProfile;
+	}
+	
+	public SeleniumWebAutomation(Browser browser, boolean isHeadless, LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy) {
+		this.log = LogManager.getLogger(this.getClass());
+		this.timeouts = new SeleniumTimeouts();
+		this.seleniumWebDriver = new SeleniumWebDriver(launchProfile, pageLoadStrategy);
+		this.browser = browser;
+		this.isHeadless = isHeadless;
+		this.launchProfile = launchProfile;
+	}
+	
+	public SeleniumWebAutomation(SeleniumSessionPool sessionPool) {
+		this.log = LogManager.getLogger(this.getClass());
+		this.timeouts = new SeleniumTimeouts();
+		this.sessionPool = sessionPool;
+		this.launchProfile = sessionPool.getLaunchProfile();
 	}
 	
 	/* ####################################################### */
@@ -80,8 +121,39 @@ public class SeleniumWebAutomation implements WebAutomation {
 	@Override
 	public void openBrowser() {
 		this.log.debug("I open Web Browser.");
-		this.driver = this.seleniumWebDriver.getWebDriver(this.browser, this.isHeadless);
-		this.seleniumWait = new SeleniumWait(this.driver, this.setExplicitWait(15));
+		long start = System.currentTimeMillis();
+		this.initializeBrowser();
+		if (!SeleniumBrowserLauncher.isLauncherThread()) {
+			SeleniumLaunchMetrics.recordBlocked(System.currentTimeMillis() - start);
+		}
+	}
+	
+	@Override
+	public Future<WebAutomation> openBrowserAsync() {
+		this.log.debug("I open Web Browser in the background.");
+		Future<WebAutomation> future = SeleniumBrowserLauncher.submit(() -> {
+			this.openBrowser();
+			return this;
+		});
+		return new SeleniumLaunchFuture(future);
+	}
+	
+	private void initializeBrowser() {
+		if (this.sessionPool != null) {
+			this.driver = this.sessionPool.checkOut();
+		} else {
+			this.driver = this.seleniumWebDriver.getWebDriver(this.browser, this.isHeadless);
+		}
+		this.seleniumWait = new SeleniumWait(this.driver, this.timeouts);
+		if (this.waitEngine != null) {
+			this.seleniumWait.setWaitEngine(this.waitEngine);
+		}
+		if (this.isElementCacheEnabled != null) {
+			this.seleniumWait.setElementCache(this.isElementCacheEnabled);
+		}
+		if (this.retryPolicy != null) {
+			this.seleniumWait.setRetryPolicy(this.retryPolicy);
+		}
 		this.action = new Actions(this.driver);
 		this.javascriptExecutor = (JavascriptExecutor)this.driver;
 		this.generalCommand = new SeleniumCommands(this.driver, this.seleniumWait);
@@ -92,15 +164,28 @@ public class SeleniumWebAutomation implements WebAutomation {
 		this.selectCommand = new SeleniumSelectCommands(this.driver, this.seleniumWait);
 		this.valueAssertionCommand = new SeleniumValueAssertionCommands(this.driver, this.seleniumWait);
 		this.stateAssertionCommand = new SeleniumStateAssertionCommands(this.driver, this.seleniumWait);
-		this.maximize();
+		this.batchAssertionCommand = new SeleniumBatchAssertionCommands(this.driver, this.seleniumWait);
+		this.snapshotCommand = new SeleniumSnapshotCommands(this.driver, this.seleniumWait);
+		if (this.launchProfile != LaunchProfile.FAST) {
+			this.maximize();
+		}
 		this.deleteAllCookies();
-		this.setImplicitWait(10);
+		this.applyImplicitWait();
+		this.applyScriptTimeout();
 	}
 	
 	@Override
 	public void closeBrowser() {
 		this.log.debug("I close Browser.");
-		this.browserCommand.execute(BrowserAction.CLOSE_BROWSER, null);
+		if (this.seleniumWait != null) {
+			this.seleniumWait.close();
+		}
+		if (this.sessionPool != null) {
+			this.sessionPool.checkIn(this.driver);
+			this.driver = null;
+		} else {
+			this.browserCommand.execute(BrowserAction.CLOSE_BROWSER, null);
+		}
 	}
 	
 	@Override
@@ -151,6 +236,39 @@ public class SeleniumWebAutomation implements WebAutomation {
 		this.browserCommand.execute(BrowserAction.DELETE_ALL_COOKIES, null);
 	}
 	
+	@Override
+	public void setWaitEngine(WaitEngine waitEngine) {
+		this.log.trace("I set Wait Engine to " + waitEngine + ".");
+		this.waitEngine = waitEngine;
+		if (this.seleniumWait != null) {
+			this.seleniumWait.setWaitEngine(waitEngine);
+		}
+	}
+	
+	@Override
+	public void setElementCache(boolean isEnabled) {
+		this.log.trace("I " + (isEnabled ? "enable" : "disable") + " Web Element cache.");
+		this.isElementCacheEnabled = isEnabled;
+		if (this.seleniumWait != null) {
+			this.seleniumWait.setElementCache(isEnabled);
+		}
+	}
+	
+	/**
+	 * Sets the Retry Policy of the User Actions. The Retry Policy classifies each failure as retry now, retry after a
+	 * jittered exponential backoff or fail fast. Retries are counted in <code>SeleniumRetryMetrics</code>.
+	 * 
+	 * @param retryPolicy	Retry Policy to use, <code>null</code> for the default Retry Policy.
+	 */
+	
+	public void setRetryPolicy(SeleniumRetryPolicy retryPolicy) {
+		this.log.trace("I set the User Action Retry Policy.");
+		this.retryPolicy = retryPolicy;
+		if (this.seleniumWait != null) {
+			this.seleniumWait.setRetryPolicy(retryPolicy);
+		}
+	}
+	
 	@Override
 	public boolean switchTabByTitle(String title) {
 		this.log.debug("I switch to Tab with Page Title: \"" + title + "\".");
@@ -174,13 +292,14 @@ public class SeleniumWebAutomation implements WebAutomation {
 			this.log.fatal("Unable to get current browser tabs. Browser might not have been opened or initialized.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 			if (this.driver == null) {
-				System.exit(1);
+				throw new DriverNotInitializedException("Unable to get current browser tabs. Browser might not have been opened or initialized.", e);
 			}
 		} catch (Exception e) {
 			this.log.fatal("Something went wrong while trying to get current browser tabs.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
 		try {
+			this.seleniumWait.invalidateWindow();
 			this.driver.switchTo().window(this.tabs.get(0));
 		} catch (NoSuchWindowException e) {
 			this.log.error("Encountered an error while trying to switch back to original tab.");
@@ -206,32 +325,58 @@ public class SeleniumWebAutomation implements WebAutomation {
 		}
 	}
 
-	void setImplicitWait(long duration) {
+	@Override
+	public void setImplicitWait(long duration) {
+		this.log.trace("I set Implicit Wait to " + duration + " second(s).");
+		this.timeouts.setImplicitWait(Duration.ofSeconds(duration));
+		if (this.driver != null) {
+			this.applyImplicitWait();
+		}
+	}
+	
+	@Override
+	public void setExplicitWait(long duration) {
+		this.log.trace("I set Explicit Wait to " + duration + " second(s).");
+		this.timeouts.setExplicitWait(Duration.ofSeconds(duration));
+		this.applyScriptTimeout();
+	}
+	
+	@Override
+	public void setTimeout(TimeoutCategory category, long duration) {
+		this.log.trace("I set " + category + " Timeout to " + duration + " second(s).");
+		this.timeouts.setBudget(category, Duration.ofSeconds(duration));
+		this.applyScriptTimeout();
+	}
+	
+	/**
+	 * Gets the Timeout budgets of this session.
+	 * 
+	 * @return Timeout budgets of this session
+	 */
+	
+	public SeleniumTimeouts getTimeouts() {
+		return this.timeouts;
+	}
+	
+	private void applyImplicitWait() {
 		this.log.trace("I initialize Implicit Wait.");
 		try {
-			this.driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+			this.driver.manage().timeouts().implicitlyWait(this.timeouts.getImplicitWait());
 		} catch (NullPointerException e) {
 			this.log.error("Unable to initialize Implicit Wait. Browser might not have been opened or initialized.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		} catch (Exception e) {
-			this.log.error("Something went wrong while trying to scroll page.");
+			this.log.error("Something went wrong while trying to initialize Implicit Wait.");
 			this.log.debug(ExceptionUtils.getStackTrace(e));
 		}
 	}
 	
-	WebDriverWait setExplicitWait(long duration) {
-		this.log.trace("I initialize Explicit Wait.");
-		WebDriverWait wait = null;
-		try {
-			wait = new WebDriverWait(this.driver, Duration.ofSeconds(2));
-		} catch (NullPointerException e) {
-			this.log.error("Unable to initialize Explicit Wait. Browser might not have been opened or initialized.");
-			this.log.debug(ExceptionUtils.getStackTrace(e));
-		} catch (Exception e) {
-			this.log.error("Something went wrong while trying to scroll page.");
-			this.log.debug(ExceptionUtils.getStackTrace(e));
+	private void applyScriptTimeout() {
+		if (this.driver == null || this.seleniumWait == null) {
+			return;
 		}
-		return wait;
+		this.log.trace("I initialize Script Timeout.");
+		this.seleniumWait.applyScriptTimeout(this.timeouts.getLargestBudget().toMillis());
 	}
 	
 	/* ####################################################### */
@@ -687,39 +832,7 @@ public class SeleniumWebAutomation implements WebAutomation {
 	@Override
 	public void dragAndDrop(By sourceObject, By targetObject) {
 		this.log.debug("I drag and drop Web Element: \"" + sourceObject.toString() + "\" to Web Element: \"" + targetObject.toString() + "\".");
-		boolean actionPerformed = false;
-		WebElement sourceElement = null;
-		WebElement targetElement = null;
-		for(int i = 1; i <= 4; i++) {
-			try {
-				sourceElement = this.seleniumWait.waitForObjectToBeClickable(sourceObject);
-				targetElement = this.seleniumWait.waitForObjectToBeClickable(targetObject);
-				this.action.dragAndDrop(sourceElement, targetElement).perform();
-				actionPerformed = true;
-			} catch (NullPointerException e) {
-				this.log.warn("Unable to perform \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\". Element created is NULL.");
-				this.log.debug(ExceptionUtils.getStackTrace(e));
-			} catch (StaleElementReferenceException e) {
-				this.log.warn("Unable to perform \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\". The Web Element is no longer present in the Web Page.");
-				this.log.debug(ExceptionUtils.getStackTrace(e));
-			} catch (TimeoutException e) {
-				this.log.warn("Unable to perform \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\". Wait time has expired.");
-				this.log.debug(ExceptionUtils.getStackTrace(e));
-			} catch (Exception e) {
-				this.log.warn("Unable to perform \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\".");
-				this.log.debug(ExceptionUtils.getStackTrace(e));
-			}
-			if (!actionPerformed) {
-				if(i < 4) {
-					this.log.debug("Retrying User Action \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\" " + i + "/3.");
-					wait(1);
-				} else {
-					this.log.error("Failed to perform User Action \"" + String.valueOf(MouseAction.DRAG_AND_DROP) + "\" for Web Element \"" + sourceObject.toString() + "\".");
-				}
-			} else {
-				break;
-			}
-		}
+		this.mouseCommand.doDragAndDropCommand(sourceObject, targetObject);
 	}
 	
 	/********************** KEYBOARD COMMANDS *********************/
@@ -911,6 +1024,41 @@ public class SeleniumWebAutomation implements WebAutomation {
 		return text;
 	}
 	
+	@Override
+	public List<String> getTexts(By locator) {
+		this.log.debug("I get texts from Web Element List: \"" + locator.toString() + "\".");
+		List<String> texts = this.getCommand.doListCommand(GetAction.GET_TEXT, locator, null);
+		return texts;
+	}
+	
+	@Override
+	public List<String> getValues(By locator) {
+		this.log.debug("I get values from Web Element List: \"" + locator.toString() + "\".");
+		List<String> values = this.getCommand.doListCommand(GetAction.GET_ATTRIBUTE, locator, "value");
+		return values;
+	}
+	
+	@Override
+	public List<String> getAttributeValues(By locator, String attribute) {
+		this.log.debug("I get attribute values from Web Element List: \"" + locator.toString() + "\".");
+		List<String> values = this.getCommand.doListCommand(GetAction.GET_ATTRIBUTE, locator, attribute);
+		return values;
+	}
+	
+	@Override
+	public Object[][] getTableData(By rowLocator, By... cellLocators) {
+		this.log.debug("I get data from Table Rows: \"" + rowLocator.toString() + "\".");
+		Object[][] tableData = this.getCommand.doTableDataCommand(rowLocator, cellLocators, null);
+		return tableData;
+	}
+	
+	@Override
+	public Object[][] getTableData(By rowLocator, String attribute, By... cellLocators) {
+		this.log.debug("I get \"" + attribute + "\" attribute data from Table Rows: \"" + rowLocator.toString() + "\".");
+		Object[][] tableData = this.getCommand.doTableDataCommand(rowLocator, cellLocators, attribute);
+		return tableData;
+	}
+	
 	@Override
 	public String getDropDownListValue(By locator) {
 		this.log.debug("I get value from Drop-down List Web Element: \"" + locator.toString() + "\".");
@@ -1121,6 +1269,7 @@ public class SeleniumWebAutomation implements WebAutomation {
 	public void acceptAlert() {
 		this.log.debug("I accept Javascript Alert.");
 		Alert alert = this.seleniumWait.waitForAlertToBePresent();
+		this.seleniumWait.invalidatePage();
 		alert.accept();
 	}
 	
@@ -1128,6 +1277,7 @@ public class SeleniumWebAutomation implements WebAutomation {
 	public void cancelAlert() {
 		this.log.debug("I cancel Javascript Alert.");
 		Alert alert = this.seleniumWait.waitForAlertToBePresent();
+		this.seleniumWait.invalidatePage();
 		alert.dismiss();
 	}
 	
@@ -1148,7 +1298,67 @@ public class SeleniumWebAutomation implements WebAutomation {
 	@Override
 	public void wait(int duration) {
 		this.log.debug("I wait for " + duration + " Second(s).");
-		this.generalCommand.wait(duration);
+		try {
+			Thread.sleep(duration * 1000L);
+		} catch (IllegalArgumentException e) {
+			this.log.error("Encountered IllegalArgumentException while waiting for " + duration + ".");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.log.error("Encountered InterruptedException while waiting for " + duration + ".");
+		}
+	}
+	
+	@Override
+	public boolean waitForNetworkIdle(long quietMillis, int maxInflight) {
+		this.log.debug("I wait for network to be idle for " + quietMillis + " ms.");
+		return this.seleniumWait.waitForNetworkIdle(quietMillis, maxInflight);
+	}
+	
+	@Override
+	public boolean waitForPageLifecycleEvent(String name) {
+		this.log.debug("I wait for Page to reach \"" + name + "\".");
+		return this.seleniumWait.waitForPageLifecycleEvent(name);
+	}
+	
+	@Override
+	public boolean takeSnapshot() {
+		this.log.debug("I take a Snapshot of the Web Page.");
+		boolean status = this.snapshotCommand.doCaptureCommand(null);
+		return status;
+	}
+	
+	@Override
+	public boolean takeSnapshot(By locator) {
+		this.log.debug("I take a Snapshot of Web Element: \"" + locator.toString() + "\".");
+		boolean status = this.snapshotCommand.doCaptureCommand(locator);
+		return status;
+	}
+	
+	@Override
+	public void clearSnapshot() {
+		this.log.debug("I clear the Snapshot.");
+		this.snapshotCommand.doClearCommand();
+	}
+	
+	@Override
+	public String getSnapshotText(By locator) {
+		this.log.debug("I get text from Web Element: \"" + locator.toString() + "\" in the Snapshot.");
+		String text = this.snapshotCommand.doGetCommand(GetAction.GET_TEXT, locator, null);
+		return text;
+	}
+	
+	@Override
+	public String getSnapshotAttributeValue(By locator, String attribute) {
+		this.log.debug("I get attribute value from Web Element: \"" + locator.toString() + "\" in the Snapshot.");
+		String text = this.snapshotCommand.doGetCommand(GetAction.GET_ATTRIBUTE, locator, attribute);
+		return text;
+	}
+	
+	@Override
+	public int countSnapshot(By locator) {
+		this.log.debug("I count Web Element: \"" + locator.toString() + "\" in the Snapshot.");
+		int size = this.snapshotCommand.doCountCommand(locator);
+		return size;
 	}
 	
 	/* ####################################################### */
@@ -1708,6 +1918,42 @@ public class SeleniumWebAutomation implements WebAutomation {
 		return status;
 	}
 	
+	/**
+	 * Verifies all checks of the Assertion Batch on the Web Page. All checks are evaluated together, and only the
+	 * failing checks are evaluated again until the wait deadline passes.
+	 * 
+	 * @param batch Assertion Batch to verify.
+	 * @return	<code>true</code> if all checks of the Assertion Batch passed.
+	 * 			<code>false</code> if at least one check failed. Use <code>batch.getFailedIndexes()</code> to get the failed checks.
+	 */
+	
+	public boolean seeAll(SeleniumAssertionBatch batch) {
+		this.log.debug("I see all " + batch.size() + " check(s) of the Assertion Batch.");
+		boolean status = this.batchAssertionCommand.isBatchEqual(batch);
+		return status;
+	}
+	
+	@Override
+	public boolean seeSnapshot(By locator) {
+		this.log.debug("I see Web Element: \"" + locator.toString() + "\" in the Snapshot.");
+		boolean status = this.snapshotCommand.isDisplayed(locator);
+		return status;
+	}
+	
+	@Override
+	public boolean seeSnapshotText(By locator, String expectedValue) {
+		this.log.debug("I see \"" + expectedValue + "\" as the text value of Web Element: \"" + locator.toString() + "\" in the Snapshot.");
+		boolean status = this.snapshotCommand.isEqual(ValueAssertionAction.TEXT, locator, null, expectedValue);
+		return status;
+	}
+	
+	@Override
+	public boolean seeSnapshotAttributeValue(By locator, String attribute, String expectedValue) {
+		this.log.debug("I see \"" + expectedValue + "\" as the \"" + attribute + "\" attribute value of Web Element: \"" + locator.toString() + "\" in the Snapshot.");
+		boolean status = this.snapshotCommand.isEqual(ValueAssertionAction.ATTRIBUTE, locator, attribute, expectedValue);
+		return status;
+	}
+	
 	@Override
 	public boolean seeTableRowElementBasedOnTableRowElementText(By rowObjectList, By rowObjectToCheckText, String textToCheck, By rowObjectToSee) {
 		this.log.debug("I see the Web Element: \"" + rowObjectToSee.toString() + "\" is displayed within one of the Rows of the Web Element: \"" + rowObjectList.toString() + "\" based on the text: \"" + textToCheck + "\" from the Web Element: \"" + rowObjectToCheckText.toString() + "\" within the same row.");
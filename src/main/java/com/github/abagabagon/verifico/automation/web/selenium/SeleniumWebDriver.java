@@ -1,26 +1,34 @@
 package com.github.abagabagon.verifico.automation.web.selenium;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.Platform;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.ie.InternetExplorerDriver;
 import org.openqa.selenium.ie.InternetExplorerOptions;
 import org.openqa.selenium.remote.CapabilityType;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariOptions;
 
+import com.github.abagabagon.verifico.automation.DriverInitializationException;
+import com.github.abagabagon.verifico.automation.LaunchRetryPolicy;
 import com.github.abagabagon.verifico.enums.Browser;
+import com.github.abagabagon.verifico.enums.LaunchProfile;
+import com.github.abagabagon.verifico.enums.PageLoadStrategy;
 import com.github.abagabagon.verifico.utilities.OperatingSystem;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
-
 /**
  * Appium implemented Web Driver Commands
  * 
@@ -32,61 +40,115 @@ public class SeleniumWebDriver {
 	
 	private Logger log;
 	private WebDriver driver;
+	private LaunchProfile launchProfile;
+	private PageLoadStrategy pageLoadStrategy;
+	private boolean isDriverCacheRefreshed;
+	
+	static final int FAST_WINDOW_WIDTH = 1280;
+	static final int FAST_WINDOW_HEIGHT = 800;
 	
 	public SeleniumWebDriver() {
 		this.log = LogManager.getLogger(this.getClass());
+		this.launchProfile = LaunchProfile.DEFAULT;
+		this.pageLoadStrategy = PageLoadStrategy.NORMAL;
+	}
+	
+	public SeleniumWebDriver(LaunchProfile launchProfile) {
+		this.log = LogManager.getLogger(this.getClass());
+		this.launchProfile = launchProfile;
+		this.pageLoadStrategy = PageLoadStrategy.NORMAL;
+	}
+	
+	public SeleniumWebDriver(LaunchProfile launchProfile, PageLoadStrategy pageLoadStrategy) {
+		this.log = LogManager.getLogger(this.getClass());
+		this.launchProfile = launchProfile;
+		this.pageLoadStrategy = pageLoadStrategy;
 	}
 	
 	WebDriver getWebDriver(Browser browser, boolean isHeadless) {
+		WebDriver prewarmedDriver = SeleniumBrowserLauncher.takePrewarmed(browser, isHeadless, this.launchProfile, this.pageLoadStrategy);
+		if (prewarmedDriver != null) {
+			this.driver = prewarmedDriver;
+			return this.driver;
+		}
+		return this.startWebDriver(browser, isHeadless);
+	}
+	
+	WebDriver startWebDriver(Browser browser, boolean isHeadless) {
 		this.log.trace("Initializing Selenium Web Driver.");
+		long start = System.currentTimeMillis();
+		this.isDriverCacheRefreshed = false;
 		try {
-			if(isHeadless) {
-				switch (browser) {
-				case CHROME:
-					this.driver = this.getChromeDriver(true);
-					break;
-				case FIREFOX:
-					this.driver = this.getFirefoxDriver(true);
-					break;
-				default:
-					this.log.fatal("Unsupported Web Browser or Headless Browsing is Unsupported by Web Browser.");
-					System.exit(1);
-				}
-			} else {
-				switch (browser) {
-				case CHROME:
-					this.driver = this.getChromeDriver(false);
-					break;
-				case SAFARI:
-					this.driver = this.getSafariDriver();
-					break;
-				case FIREFOX:
-					this.driver = this.getFirefoxDriver(false);
-					break;
-				case EDGE:
-					this.driver = this.getEdgeDriver();
-					break;
-				case IE:
-					this.driver = this.getIEDriver();
-					break;
-				default:
-					this.log.fatal("Unsupported Web Browser.");
-					System.exit(1);
-				}
-			}
-		} catch (WebDriverException e) {
-			this.log.fatal("Unable to initialize Selenium Web Driver for " + browser + ".");
-			this.log.fatal(ExceptionUtils.getStackTrace(e));
-			System.exit(1);
+			this.driver = LaunchRetryPolicy.getDefault().launch("Selenium Web Driver for " + browser, () -> this.launchWithCachedDriver(browser, isHeadless));
+		} catch (DriverInitializationException e) {
+			this.log.fatal(e.getMessage());
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+			throw e;
 		} catch (Exception e) {
 			this.log.fatal("Something went wrong while trying to initialize Selenium Web Driver for " + browser + ".");
-			this.log.fatal(ExceptionUtils.getStackTrace(e));
-			System.exit(1);
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+			throw new DriverInitializationException("Unable to initialize Selenium Web Driver for " + browser + ".", e);
 		}
-		
+		if (this.driver instanceof HasCapabilities) {
+			SeleniumDriverCache.recordBrowserVersion(browser, ((HasCapabilities) this.driver).getCapabilities().getBrowserVersion());
+		}
+		SeleniumLaunchMetrics.recordLaunch(System.currentTimeMillis() - start);
 		return this.driver;
 	}
 	
+	private WebDriver launchWithCachedDriver(Browser browser, boolean isHeadless) {
+		try {
+			return this.launch(browser, isHeadless);
+		} catch (SessionNotCreatedException e) {
+			if (this.isDriverCacheRefreshed || !SeleniumDriverCache.isCached(browser)) {
+				throw e;
+			}
+			this.log.warn("Unable to start " + browser + " with the cached Web Driver binary. Resolving Web Driver binary again.");
+			this.log.debug(ExceptionUtils.getStackTrace(e));
+			this.isDriverCacheRefreshed = true;
+			SeleniumDriverService.stop(browser);
+			SeleniumDriverCache.refresh(browser);
+			return this.launch(browser, isHeadless);
+		}
+	}
+	
+	private WebDriver launch(Browser browser, boolean isHeadless) {
+		WebDriver driver = null;
+		if(isHeadless) {
+			switch (browser) {
+			case CHROME:
+				driver = this.getChromeDriver(true);
+				break;
+			case FIREFOX:
+				driver = this.getFirefoxDriver(true);
+				break;
+			default:
+				throw new DriverInitializationException("Unsupported Web Browser or Headless Browsing is Unsupported by Web Browser: " + browser + ".");
+			}
+		} else {
+			switch (browser) {
+			case CHROME:
+				driver = this.getChromeDriver(false);
+				break;
+			case SAFARI:
+				driver = this.getSafariDriver();
+				break;
+			case FIREFOX:
+				driver = this.getFirefoxDriver(false);
+				break;
+			case EDGE:
+				driver = this.getEdgeDriver();
+				break;
+			case IE:
+				driver = this.getIEDriver();
+				break;
+			default:
+				throw new DriverInitializationException("Unsupported Web Browser: " + browser + ".");
+			}
+		}
+		return driver;
+	}
+	
 	/**
 	 * Initializes and returns Google Chrome WebDriver Object.
 	 * 
@@ -97,9 +159,14 @@ public class SeleniumWebDriver {
 	private WebDriver getChromeDriver(boolean isHeadless) {
 		this.log.trace("Initializing Google Chrome Driver.");
 		WebDriver driver;
-		WebDriverManager.chromedriver().setup();
-		ChromeOptions options = setChromeDriverOptions(isHeadless); 
-		driver = new ChromeDriver(options);
+		SeleniumDriverCache.resolve(Browser.CHROME);
+		ChromeOptions options = setChromeDriverOptions(isHeadless, this.launchProfile);
+		options.setPageLoadStrategy(this.getSeleniumPageLoadStrategy());
+		if (SeleniumDriverService.isShared()) {
+			driver = SeleniumDriverService.newRemoteWebDriver(Browser.CHROME, options);
+		} else {
+			driver = new ChromeDriver(options);
+		}
 		this.log.trace("Successfully initialized Google Chrome Driver.");
 		return driver;
 	}
@@ -114,9 +181,14 @@ public class SeleniumWebDriver {
 	private WebDriver getFirefoxDriver(boolean isHeadless) {
 		this.log.trace("Initializing Mozilla Firefox Driver.");
 		WebDriver driver;
-		WebDriverManager.firefoxdriver().setup();
-		FirefoxOptions options = setFirefoxDriverOptions(isHeadless);
-		driver = new FirefoxDriver(options);
+		SeleniumDriverCache.resolve(Browser.FIREFOX);
+		FirefoxOptions options = setFirefoxDriverOptions(isHeadless, this.launchProfile);
+		options.setPageLoadStrategy(this.getSeleniumPageLoadStrategy());
+		if (SeleniumDriverService.isShared()) {
+			driver = SeleniumDriverService.newRemoteWebDriver(Browser.FIREFOX, options);
+		} else {
+			driver = new FirefoxDriver(options);
+		}
 		this.log.trace("Successfully initialized Mozilla Firefox Driver.");
 		return driver;
 	}
@@ -130,8 +202,14 @@ public class SeleniumWebDriver {
 	private WebDriver getEdgeDriver() {
 		this.log.trace("Initializing Microsoft Edge Driver.");
 		WebDriver driver;
-		WebDriverManager.edgedriver().setup();
-		driver = new EdgeDriver();
+		SeleniumDriverCache.resolve(Browser.EDGE);
+		EdgeOptions options = new EdgeOptions();
+		options.setPageLoadStrategy(this.getSeleniumPageLoadStrategy());
+		if (SeleniumDriverService.isShared()) {
+			driver = SeleniumDriverService.newRemoteWebDriver(Browser.EDGE, options);
+		} else {
+			driver = new EdgeDriver(options);
+		}
 		this.log.trace("Successfully initialized Microsoft Edge Driver.");
 		return driver;
 	}
@@ -145,8 +223,9 @@ public class SeleniumWebDriver {
 	private WebDriver getIEDriver() {
 		this.log.trace("Initializing Internet Explorer Driver.");
 		WebDriver driver;
-		WebDriverManager.iedriver().setup();
+		SeleniumDriverCache.resolve(Browser.IE);
 		InternetExplorerOptions options = setInternetExplorerDriverOptions();
+		options.setPageLoadStrategy(this.getSeleniumPageLoadStrategy());
 		driver = new InternetExplorerDriver(options);
 		this.log.trace("Successfully initialized Internet Explorer Driver.");
 		return driver;
@@ -170,41 +249,87 @@ public class SeleniumWebDriver {
 		}
 
 		this.log.trace("Initializing Safari Driver.");
-		WebDriver driver = new SafariDriver();
+		SafariOptions options = new SafariOptions();
+		options.setPageLoadStrategy(this.getSeleniumPageLoadStrategy());
+		WebDriver driver = new SafariDriver(options);
 		this.log.trace("Successfully initialized Safari Driver.");
 		return driver;
 	}
 	
+	/**
+	 * Gets the Selenium Page Load Strategy equivalent of the configured Page Load Strategy.
+	 * 
+	 * @return Selenium Page Load Strategy
+	 */
+	
+	private org.openqa.selenium.PageLoadStrategy getSeleniumPageLoadStrategy() {
+		return org.openqa.selenium.PageLoadStrategy.valueOf(this.pageLoadStrategy.name());
+	}
+	
 	/**
 	 * Sets ChromeOptions for ChromeDriver.
 	 * 
-	 * @param  isHeadless Set option on headless mode.
+	 * @param  isHeadless		Set option on headless mode.
+	 * @param  launchProfile	Launch Profile of the Browser.
 	 * @return ChromeOptions
 	 */
 	
-	private static ChromeOptions setChromeDriverOptions(boolean isHeadless) {
+	private static ChromeOptions setChromeDriverOptions(boolean isHeadless, LaunchProfile launchProfile) {
 		ChromeOptions options = new ChromeOptions();
 		if(isHeadless) {
-			options.addArguments("--headless");
+			options.addArguments(launchProfile == LaunchProfile.FAST ? "--headless=new" : "--headless");
 		}
 		options.addArguments("--no-sandbox");
 		options.addArguments("--disable-gpu");
 		options.addArguments("--disable-dev-shm-usage");
 		options.addArguments("--ignore-certificate-errors");
+		if(launchProfile == LaunchProfile.FAST) {
+			options.addArguments("--window-size=" + FAST_WINDOW_WIDTH + "," + FAST_WINDOW_HEIGHT);
+			options.addArguments("--blink-settings=imagesEnabled=false");
+			options.addArguments("--disable-background-networking");
+			options.addArguments("--disable-component-update");
+			options.addArguments("--disable-extensions");
+			options.addArguments("--disable-default-apps");
+			options.addArguments("--disable-sync");
+			options.addArguments("--no-first-run");
+			options.addArguments("--mute-audio");
+			options.addArguments("--force-prefers-reduced-motion");
+			Map<String, Object> prefs = new HashMap<String, Object>();
+			prefs.put("profile.managed_default_content_settings.images", 2);
+			options.setExperimentalOption("prefs", prefs);
+		}
 		return options;
     }
 	
 	/**
 	 * Sets FirefoxOptions for FirefoxDriver
 	 * 
-	 * @param  isHeadless Set option on headless mode.
+	 * @param  isHeadless		Set option on headless mode.
+	 * @param  launchProfile	Launch Profile of the Browser.
 	 * @return FirefoxOptions
 	 */
 	
-	private static FirefoxOptions setFirefoxDriverOptions(boolean isHeadless) {
+	private static FirefoxOptions setFirefoxDriverOptions(boolean isHeadless, LaunchProfile launchProfile) {
 		FirefoxOptions options = new FirefoxOptions();
 		options.setCapability(CapabilityType.HAS_NATIVE_EVENTS, false);
 		options.setHeadless(isHeadless);
+		if(launchProfile == LaunchProfile.FAST) {
+			options.addArguments("--width=" + FAST_WINDOW_WIDTH, "--height=" + FAST_WINDOW_HEIGHT);
+			options.addPreference("permissions.default.image", 2);
+			options.addPreference("app.update.auto", false);
+			options.addPreference("app.update.enabled", false);
+			options.addPreference("extensions.update.enabled", false);
+			options.addPreference("browser.search.update", false);
+			options.addPreference("browser.safebrowsing.malware.enabled", false);
+			options.addPreference("browser.safebrowsing.phishing.enabled", false);
+			options.addPreference("datareporting.healthreport.uploadEnabled", false);
+			options.addPreference("toolkit.telemetry.enabled", false);
+			options.addPreference("network.prefetch-next", false);
+			options.addPreference("browser.newtabpage.enabled", false);
+			options.addPreference("media.autoplay.default", 5);
+			options.addPreference("ui.prefersReducedMotion", 1);
+			options.addPreference("toolkit.cosmeticAnimations.enabled", false);
+		}
 		return options;
 	}
 	
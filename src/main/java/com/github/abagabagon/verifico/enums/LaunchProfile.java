@@ -0,0 +1,14 @@
+package com.github.abagabagon.verifico.enums;
+
+/**
+ * Verifico Supported Browser Launch Profiles
+ * 
+ * @author albagabagon
+ *
+ */
+
+public enum LaunchProfile {
+	
+	DEFAULT, FAST
+
+}
@@ -0,0 +1,14 @@
+package com.github.abagabagon.verifico.enums;
+
+/**
+ * Verifico Supported Page Load Strategies
+ * 
+ * @author albagabagon
+ *
+ */
+
+public enum PageLoadStrategy {
+	
+	NORMAL, EAGER, NONE
+
+}
@@ -0,0 +1,14 @@
+package com.github.abagabagon.verifico.enums;
+
+/**
+ * Verifico Supported Timeout Categories
+ * 
+ * @author albagabagon
+ *
+ */
+
+public enum TimeoutCategory {
+	
+	PAGE, ELEMENT, LIST, VALUE, NEGATIVE, STEP
+
+}
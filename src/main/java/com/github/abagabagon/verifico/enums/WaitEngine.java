@@ -0,0 +1,14 @@
+package com.github.abagabagon.verifico.enums;
+
+/**
+ * Verifico Supported Wait Engines
+ * 
+ * @author albagabagon
+ *
+ */
+
+public enum WaitEngine {
+	
+	POLLING, EVENT, ADAPTIVE
+
+}
@@ -14,6 +14,9 @@ import com.aventstack.extentreports.reporter.configuration.Theme;
 
 /**
  * Implemented Extent Report Reporter
+ * <p>
+ * Thread Safety: one instance can be shared by parallel tests. The current Test is tracked per thread, so
+ * each thread logs to the Test it set through <code>setTest</code>.
  * 
  * @author albagabagon
  *
@@ -21,17 +24,18 @@ import com.aventstack.extentreports.reporter.configuration.Theme;
 
 public class ExtentReport implements Reporter {
 	
-	private ExtentReports report;
+	private volatile ExtentReports report;
 	private ExtentSparkReporter reporter;
-	private ExtentTest test;
+	private ThreadLocal<ExtentTest> test;
 	private Logger log;
 	
 	public ExtentReport() {
 		this.log = LogManager.getLogger(this.getClass());
+		this.test = new ThreadLocal<ExtentTest>();
 	}
 	
 	@Override
-	public void setReport(String testSuiteName, String organization) {
+	public synchronized void setReport(String testSuiteName, String organization) {
 		this.log.debug("Initializing ExtentReport Instance.");
 		this.setExtentSparkReporter(testSuiteName);
 		this.report = new ExtentReports();
@@ -63,7 +67,7 @@ public class ExtentReport implements Reporter {
 		if(this.isExtentReportsNull()) {
 			this.log.warn("Unable to set test. Make sure an instance of ExtentReports has been created.");
 		} else {
-			this.test = this.report.createTest(testName, description);
+			this.test.set(this.report.createTest(testName, description));
 			this.log.debug("Successfully initialized ExtentTest Instance.");
 		}
 	}
@@ -74,7 +78,7 @@ public class ExtentReport implements Reporter {
 		if (this.isExtentTestNull()) {
 			this.log.warn("Unable to assign the Author for the Test. Make sure an instance of ExtentTest has been created.");
 		} else {
-			this.test.assignAuthor(author);
+			this.test.get().assignAuthor(author);
 			this.log.debug("Successfully set Author for ExtentTest.");
 		}
 	}
@@ -85,7 +89,7 @@ public class ExtentReport implements Reporter {
 		if (this.isExtentTestNull()) {
 			this.log.warn("Unable to assign the Category for the Test. Make sure an instance of ExtentTest has been created.");
 		} else {
-			this.test.assignCategory(category);
+			this.test.get().assignCategory(category);
 			this.log.debug("Successfully set Category for ExtentTest.");
 		}
 	}
@@ -97,7 +101,7 @@ public class ExtentReport implements Reporter {
 			this.log.warn("Unable to assign the Device for the Test. Make sure an instance of ExtentTest has been created.");
 		} else {
 			String device = System.getProperty("os.version");
-			this.test.assignDevice(device);
+			this.test.get().assignDevice(device);
 			this.log.debug("Successfully set Device for ExtentTest.");
 		}
 	}
@@ -108,7 +112,7 @@ public class ExtentReport implements Reporter {
 			this.log.warn("\"INFO\" Status could not be logged at ExtentReports.");
 		} else {
 			this.log.info(details);
-			this.test.log(Status.INFO, details);
+			this.test.get().log(Status.INFO, details);
 		}
 	}
 	
@@ -119,7 +123,7 @@ public class ExtentReport implements Reporter {
 		} else {
 	        String details = "Test Case: \"" + testCaseName + "\" has " + "<b>" + "PASSED" + "</b>";
 	        Markup markUp = MarkupHelper.createLabel(details, ExtentColor.GREEN);
-			this.test.log(Status.PASS, markUp);
+			this.test.get().log(Status.PASS, markUp);
 		}
 	}
 
@@ -130,7 +134,7 @@ public class ExtentReport implements Reporter {
 		} else {
 	        String details = "Test Case: \"" + testCaseName + "\" has " + "<b>" + "FAILED" + "</b>";
 	        Markup markUp = MarkupHelper.createLabel(details, ExtentColor.RED);
-			this.test.log(Status.FAIL, markUp);
+			this.test.get().log(Status.FAIL, markUp);
 		}
 	}
 
@@ -141,12 +145,12 @@ public class ExtentReport implements Reporter {
 		} else {
 	        String details = "Test Case: \"" + testCaseName + "\" has " + "<b>" + "SKIPPED" + "</b>";
 	        Markup markUp = MarkupHelper.createLabel(details, ExtentColor.YELLOW);
-			this.test.log(Status.SKIP, markUp);
+			this.test.get().log(Status.SKIP, markUp);
 		}
 	}
 	
 	@Override
-	public void generateReport() {
+	public synchronized void generateReport() {
 		this.log.debug("Generating ExtentReports.");
 		if(this.isExtentReportsNull()) {
 			this.log.warn("Unable to generate ExtentReports. Make sure an instance of ExtentReports has been created.");
@@ -187,7 +191,7 @@ public class ExtentReport implements Reporter {
 	
 	private boolean isExtentTestNull() {
 		this.log.trace("Checking if ExtentTest is NULL");
-		if(this.test == null) {
+		if(this.test.get() == null) {
 			this.log.debug("ExtentTest Instance is NULL.");
 			return true;
 		} else {
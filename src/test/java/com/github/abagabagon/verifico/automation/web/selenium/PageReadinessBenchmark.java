@@ -0,0 +1,101 @@
+package com.github.abagabagon.verifico.automation.web.selenium;
+
+import java.io.IOException;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import com.github.abagabagon.verifico.enums.Browser;
+import com.github.abagabagon.verifico.examples.ExampleServer;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Benchmark of <code>waitForPage()</code> against headless Chrome and a local static HTTP server. It compares the
+ * per-framework waits used before the single readiness probe, replayed here as separate script round trips with
+ * their fixed sleeps, with the current <code>waitForPage()</code> on the same loaded Page. The benchmark is skipped
+ * when Chrome is not installed.
+ * <p>
+ * Run it with:
+ * <pre>
+ * mvn test -Dtest=PageReadinessBenchmark
+ * </pre>
+ *
+ * @author albagabagon
+ *
+ */
+
+public class PageReadinessBenchmark {
+
+	private static final int ROUNDS = 20;
+
+	@Test
+	public void comparesPageReadinessWaits() throws IOException {
+		if (!ExampleServer.isChromeInstalled()) {
+			throw new SkipException("Chrome is not installed.");
+		}
+		HttpServer server = ExampleServer.start("examples/page-readiness");
+		WebDriver driver = new SeleniumWebDriver().getWebDriver(Browser.CHROME, true);
+		try {
+			SeleniumWait seleniumWait = new SeleniumWait(driver, new SeleniumTimeouts());
+			driver.get(ExampleServer.urlOf(server, "/"));
+			seleniumWait.waitForPage();
+			long beforeNanos = 0;
+			long afterNanos = 0;
+			for (int i = 0; i < ROUNDS; i++) {
+				seleniumWait.invalidatePage();
+				long start = System.nanoTime();
+				seleniumWait.waitForPage();
+				afterNanos += System.nanoTime() - start;
+			}
+			// Measured last, since the dummy Ajax request would hold the network quiet period of the probe.
+			for (int i = 0; i < ROUNDS; i++) {
+				long start = System.nanoTime();
+				waitForPageBefore((JavascriptExecutor) driver);
+				beforeNanos += System.nanoTime() - start;
+			}
+			long beforeMillis = beforeNanos / ROUNDS / 1000000;
+			long afterMillis = afterNanos / ROUNDS / 1000000;
+			System.out.println("waitForPage() on a loaded Page: per-framework waits " + beforeMillis + " ms, single readiness probe " + afterMillis + " ms.");
+			Assert.assertTrue(afterNanos < beforeNanos, "Single readiness probe is not faster than the per-framework waits.");
+		} finally {
+			driver.quit();
+			server.stop(0);
+		}
+	}
+
+	/**
+	 * Replays the per-framework waits of a loaded Page: Document Ready State, the dummy Ajax request, jQuery and
+	 * AngularJS, each in its own round trip and with the fixed sleeps around the checks.
+	 *
+	 * @param javascriptExecutor	JavaScript Executor of the session.
+	 */
+
+	private static void waitForPageBefore(JavascriptExecutor javascriptExecutor) {
+		sleep(20);
+		javascriptExecutor.executeScript("return document.readyState");
+		sleep(20);
+		javascriptExecutor.executeScript("var xhr = new XMLHttpRequest(); xhr.open('GET', '/Ajax_call', true); xhr.send();");
+		if (!(Boolean) javascriptExecutor.executeScript("return typeof jQuery === 'undefined'")) {
+			sleep(20);
+			javascriptExecutor.executeScript("return jQuery.active==0");
+			sleep(20);
+		}
+		if (!(Boolean) javascriptExecutor.executeScript("return window.angular === undefined")) {
+			sleep(20);
+			javascriptExecutor.executeScript("return angular.element(document).injector().get('$http').pendingRequests.length === 0");
+			sleep(20);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,117 @@
+package com.github.abagabagon.verifico.examples;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Local static HTTP server for the examples. Pages are served from a test resources directory, <code>/</code> being
+ * its <code>index.html</code>, and the <code>/slow?ms=</code> endpoint answers after the given delay.
+ *
+ * @author albagabagon
+ *
+ */
+
+public final class ExampleServer {
+
+	private static final String[] CHROME_BINARIES = { "google-chrome", "google-chrome-stable", "chromium", "chromium-browser", "chrome", "chrome.exe" };
+
+	private ExampleServer() {
+	}
+
+	/**
+	 * Starts the server on a free local port.
+	 *
+	 * @param directory	Test resources directory of the Pages, e.g. <code>examples/network-idle</code>.
+	 * @return Started server
+	 * @throws IOException if the server cannot be started.
+	 */
+
+	public static HttpServer start(String directory) throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/", exchange -> {
+			String path = exchange.getRequestURI().getPath();
+			String resource = directory + (path.equals("/") ? "/index.html" : path);
+			try (InputStream page = ExampleServer.class.getClassLoader().getResourceAsStream(resource)) {
+				byte[] body = new byte[0];
+				if (page != null) {
+					ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+					byte[] chunk = new byte[4096];
+					for (int read; (read = page.read(chunk)) > 0;) {
+						buffer.write(chunk, 0, read);
+					}
+					body = buffer.toByteArray();
+				}
+				respond(exchange, page != null ? 200 : 404, "text/html", body);
+			}
+		});
+		server.createContext("/slow", exchange -> {
+			String query = exchange.getRequestURI().getQuery();
+			long millis = 1000;
+			for (String parameter : query != null ? query.split("&") : new String[0]) {
+				if (parameter.startsWith("ms=")) {
+					millis = Long.parseLong(parameter.substring(3));
+				}
+			}
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, 200, "application/json", ("{\"delayed\":" + millis + "}").getBytes(StandardCharsets.UTF_8));
+		});
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		return server;
+	}
+
+	/**
+	 * Gets the URL of a Page served by the server.
+	 *
+	 * @param server	Started server.
+	 * @param path		Path of the Page, starting with <code>/</code>.
+	 * @return URL of the Page
+	 */
+
+	public static String urlOf(HttpServer server, String path) {
+		return "http://localhost:" + server.getAddress().getPort() + path;
+	}
+
+	/**
+	 * Checks if Chrome is on the <code>PATH</code>, so that examples can be skipped where it is not installed.
+	 *
+	 * @return <code>true</code> if a Chrome binary is found.
+	 */
+
+	public static boolean isChromeInstalled() {
+		String path = System.getenv("PATH");
+		if (path == null) {
+			return false;
+		}
+		for (String directory : path.split(File.pathSeparator)) {
+			for (String binary : CHROME_BINARIES) {
+				if (new File(directory, binary).canExecute()) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream output = exchange.getResponseBody()) {
+			output.write(body);
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.github.abagabagon.verifico.examples;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import com.github.abagabagon.verifico.Verifico;
+import com.github.abagabagon.verifico.automation.web.WebAutomation;
+import com.github.abagabagon.verifico.enums.Browser;
+import com.github.abagabagon.verifico.enums.LaunchProfile;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Benchmark of the <code>DEFAULT</code> and <code>FAST</code> Browser Launch Profiles against headless Chrome and a
+ * local static HTTP server. The example Page holds images that are answered late, so its load event waits for them
+ * unless images are blocked. For each profile it reports the average Page load time and the resident memory (RSS) of
+ * the Chrome processes per session. RSS is read from <code>/proc</code> and is only reported on Linux. The benchmark
+ * is skipped when Chrome is not installed.
+ * <p>
+ * Run it with:
+ * <pre>
+ * mvn test -Dtest=LaunchProfileBenchmark
+ * </pre>
+ *
+ * @author albagabagon
+ *
+ */
+
+public class LaunchProfileBenchmark {
+
+	private static final int SESSIONS = 3;
+
+	@Test
+	public void comparesLaunchProfiles() throws IOException {
+		if (!ExampleServer.isChromeInstalled()) {
+			throw new SkipException("Chrome is not installed.");
+		}
+		HttpServer server = ExampleServer.start("examples/launch-profile");
+		try {
+			for (LaunchProfile launchProfile : LaunchProfile.values()) {
+				long loadMillis = 0;
+				long rssKilobytes = 0;
+				boolean isRssRead = true;
+				for (int i = 0; i < SESSIONS; i++) {
+					long baseline = getChromeRss();
+					WebAutomation I = new Verifico().getWebAutomation(Browser.CHROME, true, launchProfile);
+					try {
+						I.openBrowser();
+						long start = System.currentTimeMillis();
+						I.goTo(ExampleServer.urlOf(server, "/"));
+						loadMillis += System.currentTimeMillis() - start;
+						Assert.assertEquals(I.getText(By.id("status")), "Loaded");
+						long used = getChromeRss();
+						isRssRead = isRssRead && baseline >= 0 && used >= 0;
+						rssKilobytes += used - baseline;
+					} finally {
+						I.closeBrowser();
+					}
+				}
+				String rss = isRssRead ? (rssKilobytes / SESSIONS / 1024) + " MB" : "n/a";
+				System.out.println(String.valueOf(launchProfile) + ": Page load " + (loadMillis / SESSIONS) + " ms, RSS " + rss + " per session.");
+			}
+		} finally {
+			server.stop(0);
+		}
+	}
+
+	/**
+	 * Gets the total resident memory of the running Chrome processes.
+	 *
+	 * @return Resident memory (Kilobytes), <code>-1</code> if <code>/proc</code> is not available.
+	 */
+
+	private static long getChromeRss() {
+		File[] processes = new File("/proc").listFiles();
+		if (processes == null) {
+			return -1;
+		}
+		long total = 0;
+		for (File process : processes) {
+			if (!process.getName().matches("\\d+")) {
+				continue;
+			}
+			try {
+				String command = new String(Files.readAllBytes(new File(process, "cmdline").toPath()), StandardCharsets.UTF_8);
+				String executable = command.split("\u0000", 2)[0];
+				if (!executable.contains("chrom") || executable.contains("chromedriver")) {
+					continue;
+				}
+				for (String line : Files.readAllLines(new File(process, "status").toPath(), StandardCharsets.UTF_8)) {
+					if (line.startsWith("VmRSS:")) {
+						total += Long.parseLong(line.replaceAll("\\D", ""));
+					}
+				}
+			} catch (IOException e) {
+				// The process exited while it was being read.
+			}
+		}
+		return total;
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.github.abagabagon.verifico.examples;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import com.github.abagabagon.verifico.Verifico;
+import com.github.abagabagon.verifico.automation.web.WebAutomation;
+import com.github.abagabagon.verifico.enums.Browser;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Check of the network idle and Page lifecycle waits against headless Chrome and a local static HTTP server. The
+ * example Page sends one fetch request while it loads and one XMLHttpRequest after its load event, both answered late
+ * by the <code>/slow</code> endpoint. The waits pass when the Page reports that all requests finished. The check is
+ * skipped when Chrome is not installed.
+ * <p>
+ * Run it with:
+ * <pre>
+ * mvn test -Dtest=NetworkIdleExample
+ * </pre>
+ *
+ * @author albagabagon
+ *
+ */
+
+public class NetworkIdleExample {
+
+	@Test
+	public void waitsForNetworkIdle() throws IOException {
+		if (!ExampleServer.isChromeInstalled()) {
+			throw new SkipException("Chrome is not installed.");
+		}
+		HttpServer server = ExampleServer.start("examples/network-idle");
+		WebAutomation I = new Verifico().getWebAutomation(Browser.CHROME, true);
+		try {
+			I.openBrowser();
+			long start = System.currentTimeMillis();
+			I.goTo(ExampleServer.urlOf(server, "/"));
+			boolean isLoaded = I.waitForPageLifecycleEvent("load");
+			boolean isIdle = I.waitForPageLifecycleEvent("networkIdle") && I.waitForNetworkIdle(500, 0);
+			String status = I.getText(By.id("status"));
+			System.out.println("load: " + isLoaded + ", network idle: " + isIdle + ", status: \"" + status + "\", elapsed: " + (System.currentTimeMillis() - start) + " ms.");
+			Assert.assertTrue(isLoaded, "Page load event was not seen.");
+			Assert.assertTrue(isIdle, "Network did not become idle.");
+			Assert.assertEquals(status, "All requests finished");
+		} finally {
+			I.closeBrowser();
+			server.stop(0);
+		}
+	}
+
+}
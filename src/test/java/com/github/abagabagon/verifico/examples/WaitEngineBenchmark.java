@@ -0,0 +1,62 @@
+package com.github.abagabagon.verifico.examples;
+
+import java.io.IOException;
+
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import com.github.abagabagon.verifico.Verifico;
+import com.github.abagabagon.verifico.automation.web.WebAutomation;
+import com.github.abagabagon.verifico.enums.Browser;
+import com.github.abagabagon.verifico.enums.WaitEngine;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Benchmark of the Wait Engines against headless Chrome and a local static HTTP server. The example Page shows a Web
+ * Element a fixed delay after its load event. For each Wait Engine it reports the average time from the end of the
+ * navigation until the text of the Web Element is read, so the time past the delay is the latency of the wait. The
+ * benchmark is skipped when Chrome is not installed.
+ * <p>
+ * Run it with:
+ * <pre>
+ * mvn test -Dtest=WaitEngineBenchmark
+ * </pre>
+ *
+ * @author albagabagon
+ *
+ */
+
+public class WaitEngineBenchmark {
+
+	private static final int ROUNDS = 10;
+	private static final int DELAY_MILLIS = 300;
+
+	@Test
+	public void comparesWaitEngines() throws IOException {
+		if (!ExampleServer.isChromeInstalled()) {
+			throw new SkipException("Chrome is not installed.");
+		}
+		HttpServer server = ExampleServer.start("examples/wait-engine");
+		WebAutomation I = new Verifico().getWebAutomation(Browser.CHROME, true);
+		try {
+			I.openBrowser();
+			for (WaitEngine waitEngine : WaitEngine.values()) {
+				I.setWaitEngine(waitEngine);
+				long elapsedMillis = 0;
+				for (int i = 0; i < ROUNDS; i++) {
+					I.goTo(ExampleServer.urlOf(server, "/?delay=" + DELAY_MILLIS + "&round=" + i));
+					long start = System.currentTimeMillis();
+					Assert.assertEquals(I.getText(By.id("late")), "Shown");
+					elapsedMillis += System.currentTimeMillis() - start;
+				}
+				System.out.println(String.valueOf(waitEngine) + ": Web Element shown after " + DELAY_MILLIS + " ms was read in " + (elapsedMillis / ROUNDS) + " ms.");
+			}
+		} finally {
+			I.closeBrowser();
+			server.stop(0);
+		}
+	}
+
+}